@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.AtomicOptionArray;
+import com.convert.java.Option;
+import com.convert.java.OptionArray;
+
+/**
+ * Gathering size results, a quarter of them missing, into an AtomicReferenceArray of options and into an
+ * AtomicOptionArray, then reading them back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtomicOptionArrayBenchmark {
+
+    @Param({ "1024" })
+    public int size;
+
+    @Param({ "false", "true" })
+    public boolean padded;
+
+    private String[] results;
+
+    @Setup
+    public void setup() {
+        results = new String[size];
+        for (int i = 0; i < size; i++) {
+            results[i] = i % 4 == 0 ? null : new String("result-" + i);
+        }
+    }
+
+    @Benchmark
+    public int referenceArray() {
+        AtomicReferenceArray<Option<String>> array = new AtomicReferenceArray<Option<String>>(size);
+        for (int i = 0; i < size; i++) {
+            array.compareAndSet(i, null, Option.Option(results[i]));
+        }
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (array.get(i).isSome()) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int atomicOptionArray() {
+        AtomicOptionArray<String> array = new AtomicOptionArray<String>(size, padded);
+        for (int i = 0; i < size; i++) {
+            String result = results[i];
+            if (null == result) {
+                array.setNone(i);
+            } else {
+                array.set(i, result);
+            }
+        }
+        return array.snapshot().count();
+    }
+
+    @Benchmark
+    public OptionArray<String> atomicOptionArraySnapshot() {
+        AtomicOptionArray<String> array = new AtomicOptionArray<String>(size, padded);
+        for (int i = 0; i < size; i++) {
+            String result = results[i];
+            if (null != result) {
+                array.set(i, result);
+            }
+        }
+        return array.snapshot();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.AtomicOption;
+import com.convert.java.Option;
+
+/**
+ * Updates of shared optional state through AtomicReference&lt;Option&lt;T&gt;&gt; and through AtomicOption. The
+ * values flip between two preallocated strings so that any allocation comes from the option itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtomicOptionBenchmark {
+
+    private static final String A = new String("leader-a");
+
+    private static final String B = new String("leader-b");
+
+    private final AtomicReference<Option<String>> reference = new AtomicReference<Option<String>>(
+            Option.Some(A));
+
+    private final AtomicOption<String> atomic = new AtomicOption<String>(Option.Some(A));
+
+    private static String flip(String value) {
+        return A == value ? B : A;
+    }
+
+    @Benchmark
+    public Option<String> referenceUpdate() {
+        return reference.updateAndGet(o -> Option.Some(flip(o.orNull())));
+    }
+
+    @Benchmark
+    public String atomicUpdate() {
+        return atomic.updateAndGet(AtomicOptionBenchmark::flip);
+    }
+
+    @Benchmark
+    public Option<String> referenceGetAndSet() {
+        return reference.getAndSet(Option.Some(flip(reference.get().orNull())));
+    }
+
+    @Benchmark
+    public String atomicGetAndSet() {
+        return atomic.getAndSet(flip(atomic.orNull()));
+    }
+
+    @Benchmark
+    public String referenceRead() {
+        return reference.get().or("none");
+    }
+
+    @Benchmark
+    public String atomicRead() {
+        return atomic.or("none");
+    }
+}
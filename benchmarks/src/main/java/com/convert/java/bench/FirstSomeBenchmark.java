@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+import com.convert.java.Options;
+
+/**
+ * A lookup chain of a cache that misses after 200us, a replica that answers after 500us and a recompute that
+ * answers after 1ms, tried one after another with or and speculatively with firstSome.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FirstSomeBenchmark {
+
+    private Supplier<Option<Long>> cache;
+
+    private Supplier<Option<Long>> replica;
+
+    private Supplier<Option<Long>> recompute;
+
+    private List<Supplier<Option<Long>>> sources;
+
+    private ExecutorService executor;
+
+    private static Supplier<Option<Long>> after(final long micros, final Option<Long> result) {
+        return () -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+            return result;
+        };
+    }
+
+    @Setup
+    public void setup() {
+        cache = after(200, Option.<Long> None());
+        replica = after(500, Option.Some(1L));
+        recompute = after(1000, Option.Some(2L));
+        sources = Arrays.asList(cache, replica, recompute);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Option<Long> sequential() {
+        Option<Long> option = cache.get();
+        if (option.isSome()) {
+            return option;
+        }
+        option = replica.get();
+        if (option.isSome()) {
+            return option;
+        }
+        return recompute.get();
+    }
+
+    @Benchmark
+    public Option<Long> firstSome() {
+        return Options.firstSome(sources, executor);
+    }
+
+    @Benchmark
+    public Option<Long> firstSomeDeadline() {
+        return Options.firstSome(sources, executor, 300, TimeUnit.MICROSECONDS);
+    }
+}
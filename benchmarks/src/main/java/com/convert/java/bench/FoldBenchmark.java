@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+
+/**
+ * Consuming options with isSome()/get(), the for-each idiom, fold and the primitive folds. The for-each idiom
+ * allocates an iterator per Some unless escape analysis removes it; the folds with non-capturing lambdas don't
+ * allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FoldBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private Option<String>[] options;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        options = new Option[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            options[i] = i % 2 == 0 ? Option.<String> None() : Option.Some("value-" + i);
+        }
+    }
+
+    @Benchmark
+    public long isSomeGet() {
+        long sum = 0;
+        for (Option<String> option : options) {
+            sum += option.isSome() ? option.get().length() : 0;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachLoop() {
+        long sum = 0;
+        for (Option<String> option : options) {
+            for (String value : option) {
+                sum += value.length();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fold() {
+        long sum = 0;
+        for (Option<String> option : options) {
+            sum += option.fold(() -> 0, String::length);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long foldToInt() {
+        long sum = 0;
+        for (Option<String> option : options) {
+            sum += option.foldToInt(0, String::length);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long foldToBoolean() {
+        long count = 0;
+        for (Option<String> option : options) {
+            if (option.foldToBoolean(false, s -> s.endsWith("1"))) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+
+/**
+ * HashMap lookups keyed by options built with Some and with HashedSome. Strings already cache their own hash,
+ * so the gain there is small; lists of strings are rehashed on every call unless the option remembers it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashedSomeBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private List<Option<String>> stringKeys;
+
+    private List<Option<String>> hashedStringKeys;
+
+    private List<Option<List<String>>> listKeys;
+
+    private List<Option<List<String>>> hashedListKeys;
+
+    private Map<Option<String>, Integer> stringMap;
+
+    private Map<Option<String>, Integer> hashedStringMap;
+
+    private Map<Option<List<String>>, Integer> listMap;
+
+    private Map<Option<List<String>>, Integer> hashedListMap;
+
+    @Setup
+    public void setup() {
+        stringKeys = new ArrayList<Option<String>>();
+        hashedStringKeys = new ArrayList<Option<String>>();
+        listKeys = new ArrayList<Option<List<String>>>();
+        hashedListKeys = new ArrayList<Option<List<String>>>();
+        stringMap = new HashMap<Option<String>, Integer>();
+        hashedStringMap = new HashMap<Option<String>, Integer>();
+        listMap = new HashMap<Option<List<String>>, Integer>();
+        hashedListMap = new HashMap<Option<List<String>>, Integer>();
+        for (int i = 0; i < KEYS; i++) {
+            String s = "a-rather-long-key-of-the-kind-found-in-caches-" + i;
+            List<String> l = Arrays.asList("tenant-" + (i % 7), "region-" + (i % 13), "metric-" + i, s);
+            stringKeys.add(Option.Some(s));
+            hashedStringKeys.add(Option.HashedSome(s));
+            listKeys.add(Option.Some(l));
+            hashedListKeys.add(Option.HashedSome(l));
+            stringMap.put(stringKeys.get(i), i);
+            hashedStringMap.put(hashedStringKeys.get(i), i);
+            listMap.put(listKeys.get(i), i);
+            hashedListMap.put(hashedListKeys.get(i), i);
+        }
+    }
+
+    @Benchmark
+    public int stringKeys() {
+        int sum = 0;
+        for (Option<String> key : stringKeys) {
+            sum += stringMap.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int hashedStringKeys() {
+        int sum = 0;
+        for (Option<String> key : hashedStringKeys) {
+            sum += hashedStringMap.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int listKeys() {
+        int sum = 0;
+        for (Option<List<String>> key : listKeys) {
+            sum += listMap.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int hashedListKeys() {
+        int sum = 0;
+        for (Option<List<String>> key : hashedListKeys) {
+            sum += hashedListMap.get(key);
+        }
+        return sum;
+    }
+}
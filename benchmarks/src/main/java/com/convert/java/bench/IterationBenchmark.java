@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.convert.java.Option;
+
+/**
+ * Iterates a hot loop of mixed Some and None values through for-each, forEach and spliterator. The
+ * gc.alloc.rate.norm column shows whether the iteration itself allocates: None never should, and Some
+ * should not once escape analysis scalar-replaces the iterator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterationBenchmark {
+
+    @Param({ "0", "50", "100" })
+    public int somePercent;
+
+    private Option<Integer>[] options;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        options = new Option[1024];
+        for (int i = 0; i < options.length; i++) {
+            options[i] = (i % 100) < somePercent ? Option.Some(i) : Option.<Integer> None();
+        }
+    }
+
+    @Benchmark
+    public long forLoop() {
+        long sum = 0;
+        for (Option<Integer> option : options) {
+            for (Integer x : option) {
+                sum += x;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void forEach(final Blackhole bh) {
+        for (Option<Integer> option : options) {
+            option.forEach(bh::consume);
+        }
+    }
+
+    @Benchmark
+    public void spliterator(final Blackhole bh) {
+        for (Option<Integer> option : options) {
+            option.spliterator().forEachRemaining(bh::consume);
+        }
+    }
+
+    @Benchmark
+    public long isSomeGet() {
+        long sum = 0;
+        for (Option<Integer> option : options) {
+            if (option.isSome()) {
+                sum += option.get();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+
+/**
+ * Eager or(T) against the lazy orElseGet and orElseOption, where the default is an allocating computation.
+ * On Some the lazy variants should report neither the cost nor the bytes of the default.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyDefaultBenchmark {
+
+    private Option<String> some;
+
+    private Option<String> none;
+
+    private int key;
+
+    @Setup
+    public void setup() {
+        some = Option.Some("value");
+        none = Option.None();
+        key = 42;
+    }
+
+    private String expensiveDefault() {
+        return new StringBuilder("default-").append(key).append('-').append(key * 31).toString();
+    }
+
+    @Benchmark
+    public String someEager() {
+        return some.or(expensiveDefault());
+    }
+
+    @Benchmark
+    public String someLazy() {
+        return some.orElseGet(this::expensiveDefault);
+    }
+
+    @Benchmark
+    public Option<String> someLazyOption() {
+        return some.orElseOption(() -> Option.Some(expensiveDefault()));
+    }
+
+    @Benchmark
+    public String noneEager() {
+        return none.or(expensiveDefault());
+    }
+
+    @Benchmark
+    public String noneLazy() {
+        return none.orElseGet(this::expensiveDefault);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.LazyOption;
+import com.convert.java.Option;
+
+/**
+ * Concurrent reads of an already computed optional field, through a LazyOption and through a synchronized
+ * getter, with 1 to 64 reader threads sharing one instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyOptionBenchmark {
+
+    /**
+     * The pattern LazyOption replaces.
+     */
+    static final class SynchronizedHolder {
+
+        private Option<String> option_;
+
+        synchronized Option<String> get() {
+            if (null == option_) {
+                option_ = Option.Some("value");
+            }
+            return option_;
+        }
+    }
+
+    private final LazyOption<String> lazy = new LazyOption<String>(() -> Option.Some("value"));
+
+    private final SynchronizedHolder holder = new SynchronizedHolder();
+
+    @Benchmark
+    @Threads(1)
+    public String lazy1() {
+        return lazy.or("default");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String lazy4() {
+        return lazy.or("default");
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String lazy16() {
+        return lazy.or("default");
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String lazy64() {
+        return lazy.or("default");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String synchronized1() {
+        return holder.get().or("default");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String synchronized4() {
+        return holder.get().or("default");
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String synchronized16() {
+        return holder.get().or("default");
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String synchronized64() {
+        return holder.get().or("default");
+    }
+}
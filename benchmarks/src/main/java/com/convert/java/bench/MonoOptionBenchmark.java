@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.MonoOption;
+import com.convert.java.Option;
+
+/**
+ * The same loop over an Option[] whose elements are Some, None and HashedSome, which makes isSome() and get()
+ * megamorphic, and over a MonoOption[] with the same content, where both calls are monomorphic.
+ * 
+ * Add -jvmArgsAppend "-XX:+UnlockDiagnosticVMOptions -XX:+PrintInlining" to the command line to see the
+ * Option calls reported as virtual calls and the MonoOption calls inlined.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonoOptionBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private Option<Integer>[] options;
+
+    private MonoOption<Integer>[] monoOptions;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        options = new Option[SIZE];
+        monoOptions = new MonoOption[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (i % 3) {
+            case 0:
+                options[i] = Option.None();
+                break;
+            case 1:
+                options[i] = Option.Some(i);
+                break;
+            default:
+                options[i] = Option.HashedSome(i);
+                break;
+            }
+            monoOptions[i] = MonoOption.of(options[i]);
+        }
+    }
+
+    @Benchmark
+    public long polymorphic() {
+        long sum = 0;
+        for (Option<Integer> option : options) {
+            if (option.isSome()) {
+                sum += option.get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long monomorphic() {
+        long sum = 0;
+        for (MonoOption<Integer> option : monoOptions) {
+            if (option.isSome()) {
+                sum += option.get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long polymorphicOr() {
+        long sum = 0;
+        for (Option<Integer> option : options) {
+            sum += option.or(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long monomorphicOr() {
+        long sum = 0;
+        for (MonoOption<Integer> option : monoOptions) {
+            sum += option.or(0);
+        }
+        return sum;
+    }
+}
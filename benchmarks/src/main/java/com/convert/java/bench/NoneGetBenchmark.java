@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+
+/**
+ * Cost of a get-and-catch on None with the default exception, in stackless mode, and through getOrThrow
+ * with a preallocated exception.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoneGetBenchmark {
+
+    private static final IllegalStateException MISSING = new IllegalStateException("missing") {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    };
+
+    private Option<String> none = Option.None();
+
+    @Benchmark
+    public Object getAndCatch() {
+        try {
+            return none.get();
+        } catch (UnsupportedOperationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + Option.None.STACKLESS_PROPERTY + "=true")
+    public Object getAndCatchStackless() {
+        try {
+            return none.get();
+        } catch (UnsupportedOperationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object getOrThrowNew() {
+        try {
+            return none.getOrThrow(() -> new IllegalStateException("missing"));
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object getOrThrowPreallocated() {
+        try {
+            return none.getOrThrow(() -> MISSING);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.OffHeapArena;
+import com.convert.java.OffHeapOptionLongArray;
+import com.convert.java.OptionLongArray;
+
+/**
+ * Compares scanning and bulk copying heap and off-heap optional long columns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapBenchmark {
+
+    @Param({ "1000000" })
+    public int size;
+
+    private OffHeapArena arena;
+
+    private OptionLongArray heap;
+
+    private OffHeapOptionLongArray offHeap;
+
+    @Setup
+    public void setup() {
+        arena = new OffHeapArena();
+        heap = new OptionLongArray(size);
+        for (int i = 0; i < size; i++) {
+            if (i % 3 != 0) {
+                heap.set(i, i);
+            }
+        }
+        offHeap = arena.copyOf(heap);
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    @Benchmark
+    public long heapSum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += heap.or(i, 0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long offHeapSum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += offHeap.or(i, 0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public OffHeapOptionLongArray copyToOffHeap() {
+        offHeap.copyFrom(heap);
+        return offHeap;
+    }
+
+    @Benchmark
+    public OptionLongArray copyToHeap() {
+        return offHeap.toHeap();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+import com.convert.java.OptionAggregates;
+import com.convert.java.OptionDouble;
+import com.convert.java.OptionDoubleArray;
+import com.convert.java.OptionLongArray;
+
+/**
+ * Aggregation kernels of OptionAggregates against the equivalent loop over Option objects, for several
+ * densities of present values. The kernels are the Vector API ones when the forks run with
+ * -jvmArgsAppend --add-modules=jdk.incubator.vector on Java 17 or later, and the plain ones otherwise or with
+ * -jvmArgsAppend -Dcom.convert.java.OptionAggregates.vector=false.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionAggregatesBenchmark {
+
+    @Param({ "1000000" })
+    public int size;
+
+    @Param({ "10", "90", "100" })
+    public int somePercent;
+
+    private Option<Double>[] doubleOptions;
+
+    private Option<Long>[] longOptions;
+
+    private OptionDoubleArray doubles;
+
+    private OptionLongArray longs;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        doubleOptions = new Option[size];
+        longOptions = new Option[size];
+        doubles = new OptionDoubleArray(size);
+        longs = new OptionLongArray(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(100) < somePercent) {
+                double d = random.nextDouble();
+                long l = random.nextInt();
+                doubleOptions[i] = Option.Some(d);
+                longOptions[i] = Option.Some(l);
+                doubles.set(i, d);
+                longs.set(i, l);
+            } else {
+                doubleOptions[i] = Option.None();
+                longOptions[i] = Option.None();
+            }
+        }
+    }
+
+    @Benchmark
+    public long longSumOptionLoop() {
+        long sum = 0;
+        for (Option<Long> option : longOptions) {
+            if (option.isSome()) {
+                sum += option.get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longSumKernel() {
+        return OptionAggregates.sum(longs);
+    }
+
+    @Benchmark
+    public double doubleSumOptionLoop() {
+        double sum = 0;
+        for (Option<Double> option : doubleOptions) {
+            if (option.isSome()) {
+                sum += option.get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double doubleSumKernel() {
+        return OptionAggregates.sum(doubles);
+    }
+
+    @Benchmark
+    public double doubleMaxOptionLoop() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (Option<Double> option : doubleOptions) {
+            if (option.isSome()) {
+                max = Math.max(max, option.get());
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public OptionDouble doubleMaxKernel() {
+        return OptionAggregates.max(doubles);
+    }
+}
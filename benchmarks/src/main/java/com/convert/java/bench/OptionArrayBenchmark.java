@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+import com.convert.java.OptionArray;
+import com.convert.java.OptionLongArray;
+
+/**
+ * Scans a column of optional longs stored as Option<Long>[], as OptionArray<Long> and as OptionLongArray.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionArrayBenchmark {
+
+    @Param({ "1000000" })
+    public int size;
+
+    private Option<Long>[] options;
+
+    private OptionArray<Long> optionArray;
+
+    private OptionLongArray optionLongArray;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        options = new Option[size];
+        optionArray = new OptionArray<Long>(size);
+        optionLongArray = new OptionLongArray(size);
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 0) {
+                options[i] = Option.None();
+            } else {
+                options[i] = Option.Some((long) i);
+                optionArray.set(i, (long) i);
+                optionLongArray.set(i, i);
+            }
+        }
+    }
+
+    @Benchmark
+    public long optionArraySum() {
+        long sum = 0;
+        for (Option<Long> option : options) {
+            sum += option.or(0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long columnarSum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += optionArray.isSome(i) ? optionArray.get(i) : 0L;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long columnarLongSum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += optionLongArray.or(i, 0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long columnarLongScan() {
+        long sum = 0;
+        for (int i = optionLongArray.nextSome(0); i >= 0; i = optionLongArray.nextSome(i + 1)) {
+            sum += optionLongArray.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.convert.java.Option;
+
+/**
+ * One benchmark per Option operation, each paired with a raw null check baseline and a java.util.Optional
+ * baseline. Inputs are read from fields so the JIT can't constant fold them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionBenchmark {
+
+    private String value;
+
+    private String nullValue;
+
+    private String other;
+
+    private Option<String> some;
+
+    private Option<String> someEqual;
+
+    private Option<String> none;
+
+    private Option<String> otherOption;
+
+    private Optional<String> present;
+
+    private Optional<String> presentEqual;
+
+    private Optional<String> empty;
+
+    private Optional<String> otherOptional;
+
+    @Setup
+    public void setup() {
+        value = new String("value");
+        other = new String("other");
+        nullValue = null;
+        some = Option.Some(value);
+        someEqual = Option.Some(new String("value"));
+        none = Option.None();
+        otherOption = Option.Some(other);
+        present = Optional.of(value);
+        presentEqual = Optional.of(new String("value"));
+        empty = Optional.empty();
+        otherOptional = Optional.of(other);
+    }
+
+    // Option(T)
+
+    @Benchmark
+    public Option<String> optionOfValue() {
+        return Option.Option(value);
+    }
+
+    @Benchmark
+    public Option<String> optionOfNull() {
+        return Option.Option(nullValue);
+    }
+
+    @Benchmark
+    public Optional<String> optionalOfNullableValue() {
+        return Optional.ofNullable(value);
+    }
+
+    @Benchmark
+    public Optional<String> optionalOfNullableNull() {
+        return Optional.ofNullable(nullValue);
+    }
+
+    @Benchmark
+    public boolean rawNullCheck() {
+        return value != null;
+    }
+
+    // Some(Y) and None()
+
+    @Benchmark
+    public Option<String> some() {
+        return Option.Some(value);
+    }
+
+    @Benchmark
+    public Optional<String> optionalOf() {
+        return Optional.of(value);
+    }
+
+    @Benchmark
+    public Option<String> none() {
+        return Option.None();
+    }
+
+    @Benchmark
+    public Optional<String> optionalEmpty() {
+        return Optional.empty();
+    }
+
+    // get()
+
+    @Benchmark
+    public String get() {
+        return some.get();
+    }
+
+    @Benchmark
+    public String optionalGet() {
+        return present.get();
+    }
+
+    @Benchmark
+    public String rawGet() {
+        String v = value;
+        if (v == null) {
+            throw new UnsupportedOperationException();
+        }
+        return v;
+    }
+
+    // or(T)
+
+    @Benchmark
+    public void orValue(Blackhole bh) {
+        bh.consume(some.or(other));
+        bh.consume(none.or(other));
+    }
+
+    @Benchmark
+    public void optionalOrElse(Blackhole bh) {
+        bh.consume(present.orElse(other));
+        bh.consume(empty.orElse(other));
+    }
+
+    @Benchmark
+    public void rawOrValue(Blackhole bh) {
+        bh.consume(value != null ? value : other);
+        bh.consume(nullValue != null ? nullValue : other);
+    }
+
+    // or(Option)
+
+    @Benchmark
+    public void orOption(Blackhole bh) {
+        bh.consume(some.or(otherOption));
+        bh.consume(none.or(otherOption));
+    }
+
+    @Benchmark
+    public void optionalOrOptional(Blackhole bh) {
+        bh.consume(present.isPresent() ? present : otherOptional);
+        bh.consume(empty.isPresent() ? empty : otherOptional);
+    }
+
+    // orNull()
+
+    @Benchmark
+    public void orNull(Blackhole bh) {
+        bh.consume(some.orNull());
+        bh.consume(none.orNull());
+    }
+
+    @Benchmark
+    public void optionalOrElseNull(Blackhole bh) {
+        bh.consume(present.orElse(null));
+        bh.consume(empty.orElse(null));
+    }
+
+    // iterator()
+
+    @Benchmark
+    public void iterateSome(Blackhole bh) {
+        for (String s : some) {
+            bh.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void iterateNone(Blackhole bh) {
+        for (String s : none) {
+            bh.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void optionalIfPresent(Blackhole bh) {
+        if (present.isPresent()) {
+            bh.consume(present.get());
+        }
+        if (empty.isPresent()) {
+            bh.consume(empty.get());
+        }
+    }
+
+    @Benchmark
+    public void rawIfNotNull(Blackhole bh) {
+        if (value != null) {
+            bh.consume(value);
+        }
+        if (nullValue != null) {
+            bh.consume(nullValue);
+        }
+    }
+
+    // equals
+
+    @Benchmark
+    public void equalsOption(Blackhole bh) {
+        bh.consume(some.equals(someEqual));
+        bh.consume(some.equals(none));
+        bh.consume(none.equals(none));
+    }
+
+    @Benchmark
+    public void equalsOptional(Blackhole bh) {
+        bh.consume(present.equals(presentEqual));
+        bh.consume(present.equals(empty));
+        bh.consume(empty.equals(empty));
+    }
+
+    @Benchmark
+    public boolean equalsRaw() {
+        return value.equals(other);
+    }
+
+    // hashCode
+
+    @Benchmark
+    public void hashCodeOption(Blackhole bh) {
+        bh.consume(some.hashCode());
+        bh.consume(none.hashCode());
+    }
+
+    @Benchmark
+    public void hashCodeOptional(Blackhole bh) {
+        bh.consume(present.hashCode());
+        bh.consume(empty.hashCode());
+    }
+
+    @Benchmark
+    public int hashCodeRaw() {
+        return value.hashCode();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+import com.convert.java.OptionCache;
+
+/**
+ * Read throughput of OptionCache against a synchronized LRU LinkedHashMap and an unbounded ConcurrentHashMap,
+ * with four threads reading Zipfian keys from a cache that holds all of them. Hit rates under eviction are
+ * measured by {@link OptionCacheSimulation}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class OptionCacheBenchmark {
+
+    private static final int SIZE = 1 << 14;
+
+    private static final int MASK = SIZE - 1;
+
+    private OptionCache<Integer, Integer> optionCache;
+
+    private Map<Integer, Integer> lru;
+
+    private ConcurrentHashMap<Integer, Integer> map;
+
+    private Integer[] keys;
+
+    /**
+     * Per thread position in the key sequence.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int index;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            index = (int) Thread.currentThread().getId() * 7919;
+        }
+
+        int next() {
+            return index++ & MASK;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        optionCache = new OptionCache<Integer, Integer>(2 * SIZE);
+        lru = Collections.synchronizedMap(new LinkedHashMap<Integer, Integer>(4 * SIZE, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > 2 * SIZE;
+            }
+        });
+        map = new ConcurrentHashMap<Integer, Integer>();
+        keys = new Integer[SIZE];
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            // Zipf-like skew: small keys are drawn far more often.
+            int key = (int) Math.pow(SIZE, random.nextDouble());
+            keys[i] = key;
+            optionCache.put(key, key);
+            lru.put(key, key);
+            map.put(key, key);
+        }
+        optionCache.cleanUp();
+    }
+
+    @Benchmark
+    public Option<Integer> optionCache(Cursor cursor) {
+        return optionCache.get(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    public Integer synchronizedLru(Cursor cursor) {
+        return lru.get(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    public Integer concurrentHashMap(Cursor cursor) {
+        return map.get(keys[cursor.next()]);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.convert.java.Option;
+import com.convert.java.OptionCache;
+
+/**
+ * Trace-driven hit rate simulation of OptionCache against a plain LRU cache of the same size.
+ * 
+ * Without arguments it replays synthetic traces: a Zipfian popularity distribution, the same with periodic
+ * sequential scans, and a loop slightly larger than the cache. Given trace files, one key per line, it replays
+ * those instead:
+ * 
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.convert.java.bench.OptionCacheSimulation [size] [trace...]
+ * </pre>
+ */
+public final class OptionCacheSimulation {
+
+    private static final int EVENTS = 1000000;
+
+    private static final int KEYS = 100000;
+
+    private OptionCacheSimulation() {
+    }
+
+    /**
+     * A least recently used cache, the usual alternative.
+     */
+    private static final class Lru<K> extends LinkedHashMap<K, Boolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize_;
+
+        Lru(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize_ = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+            return size() > maximumSize_;
+        }
+    }
+
+    /**
+     * Keys 0 to n - 1 with probability proportional to 1 / (rank + 1)^skew, by inverting the cumulative
+     * distribution.
+     */
+    private static long[] zipf(int events, int n, double skew, Random random) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        long[] trace = new long[events];
+        for (int e = 0; e < events; e++) {
+            double u = random.nextDouble() * sum;
+            int lo = 0;
+            int hi = n - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cumulative[mid] < u) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            trace[e] = lo;
+        }
+        return trace;
+    }
+
+    /**
+     * A Zipfian trace where every tenth block of 10000 events is replaced by a scan of keys never seen again.
+     */
+    private static long[] zipfWithScans(int events, int n, double skew, Random random) {
+        long[] trace = zipf(events, n, skew, random);
+        long next = n;
+        for (int block = 0; block * 10000 < events; block += 10) {
+            for (int e = block * 10000; e < Math.min(events, (block + 1) * 10000); e++) {
+                trace[e] = next++;
+            }
+        }
+        return trace;
+    }
+
+    private static long[] loop(int events, int n) {
+        long[] trace = new long[events];
+        for (int e = 0; e < events; e++) {
+            trace[e] = e % n;
+        }
+        return trace;
+    }
+
+    private static long[] read(String path) throws IOException {
+        Map<String, Long> ids = new HashMap<String, Long>();
+        long[] trace = new long[1024];
+        int length = 0;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (length == trace.length) {
+                    trace = Arrays.copyOf(trace, 2 * length);
+                }
+                Long id = ids.get(line);
+                if (null == id) {
+                    id = (long) ids.size();
+                    ids.put(line, id);
+                }
+                trace[length++] = id;
+            }
+        }
+        return Arrays.copyOf(trace, length);
+    }
+
+    private static double optionCacheHitRate(long[] trace, int size) {
+        OptionCache<Long, Boolean> cache = new OptionCache<Long, Boolean>(size);
+        long hits = 0;
+        for (long key : trace) {
+            Option<Boolean> cached = cache.get(key);
+            if (cached.isSome()) {
+                hits++;
+            } else {
+                cache.put(key, Boolean.TRUE);
+            }
+        }
+        return (double) hits / trace.length;
+    }
+
+    private static double lruHitRate(long[] trace, int size) {
+        Lru<Long> cache = new Lru<Long>(size);
+        long hits = 0;
+        for (long key : trace) {
+            if (null != cache.get(key)) {
+                hits++;
+            } else {
+                cache.put(key, Boolean.TRUE);
+            }
+        }
+        return (double) hits / trace.length;
+    }
+
+    private static void report(String name, long[] trace, int size) {
+        System.out.printf("%-24s %8d %10.2f%% %10.2f%%%n", name, size, 100 * lruHitRate(trace, size),
+                100 * optionCacheHitRate(trace, size));
+    }
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        System.out.printf("%-24s %8s %11s %11s%n", "trace", "size", "LRU", "OptionCache");
+        if (args.length > 1) {
+            for (int i = 1; i < args.length; i++) {
+                report(Paths.get(args[i]).getFileName().toString(), read(args[i]), size);
+            }
+            return;
+        }
+        report("zipf(0.8)", zipf(EVENTS, KEYS, 0.8, new Random(42)), size);
+        report("zipf(1.0)", zipf(EVENTS, KEYS, 1.0, new Random(42)), size);
+        report("zipf(0.8) with scans", zipfWithScans(EVENTS, KEYS, 0.8, new Random(42)), size);
+        report("loop(1.2 x size)", loop(EVENTS, size + size / 5), size);
+    }
+}
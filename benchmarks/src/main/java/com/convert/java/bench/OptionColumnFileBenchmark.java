@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.OffHeapArena;
+import com.convert.java.OptionColumnFile;
+import com.convert.java.OptionLongArray;
+
+/**
+ * Time to open a persisted column. Mapping should stay flat as the column grows, while reading it onto the
+ * heap grows with the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionColumnFileBenchmark {
+
+    @Param({ "1000", "10000000" })
+    public int size;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        OptionLongArray array = new OptionLongArray(size);
+        for (int i = 0; i < size; i += 2) {
+            array.set(i, i);
+        }
+        file = Files.createTempFile("option-column", ".col");
+        OptionColumnFile.write(file, array);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long mapAndReadLastRow() throws IOException {
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            return OptionColumnFile.mapLongArray(arena, file).or(size - 1, -1L);
+        } finally {
+            arena.close();
+        }
+    }
+
+    @Benchmark
+    public long loadOntoHeapAndReadLastRow() throws IOException {
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            return OptionColumnFile.mapLongArray(arena, file).toHeap().or(size - 1, -1L);
+        } finally {
+            arena.close();
+        }
+    }
+}
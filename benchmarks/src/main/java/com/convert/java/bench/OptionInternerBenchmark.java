@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+import com.convert.java.OptionInterner;
+
+/**
+ * Throughput of OptionInterner from several threads over a small set of distinct values, as when
+ * deserializing records that repeat a few currency codes.
+ * 
+ * Run the main method to print the heap retained by a million such records with and without interning.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class OptionInternerBenchmark {
+
+    private static final String[] CODES = { "USD", "EUR", "GBP", "JPY", "CHF", "CAD", "AUD", "CNY" };
+
+    @Param({ "1", "64" })
+    public int stripes;
+
+    private OptionInterner<String> interner;
+
+    @Setup
+    public void setup() {
+        interner = new OptionInterner<String>(stripes);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public Option<String> intern(Cursor cursor) {
+        return interner.intern(Option.Some(new String(CODES[cursor.next++ & 7])));
+    }
+
+    @Benchmark
+    public Option<String> noIntern(Cursor cursor) {
+        return Option.Some(new String(CODES[cursor.next++ & 7]));
+    }
+
+    public static void main(String[] args) {
+        int records = 1000000;
+        long before = usedHeap();
+        Object[] plain = new Object[records];
+        for (int i = 0; i < records; i++) {
+            plain[i] = Option.Some(new String(CODES[i & 7]));
+        }
+        long withoutInterning = usedHeap() - before;
+        plain = null;
+
+        before = usedHeap();
+        OptionInterner<String> interner = new OptionInterner<String>();
+        Object[] interned = new Object[records];
+        for (int i = 0; i < records; i++) {
+            interned[i] = interner.intern(Option.Some(new String(CODES[i & 7])));
+        }
+        long withInterning = usedHeap() - before;
+
+        System.out.printf("%d records: %,d bytes without interning, %,d bytes with interning%n", interned.length,
+                withoutInterning, withInterning);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
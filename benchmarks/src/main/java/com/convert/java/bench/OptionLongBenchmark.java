@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+import com.convert.java.OptionLong;
+
+/**
+ * Compares Option<Long> against OptionLong. The values are outside the Long.valueOf cache so that the
+ * boxed path really pays for both the Long and the Some. The benchmarks jar reports the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionLongBenchmark {
+
+    @Param({ "1000" })
+    public int size;
+
+    private long[] values;
+
+    private boolean[] present;
+
+    @Setup
+    public void setup() {
+        values = new long[size];
+        present = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 1000000L + i;
+            present[i] = (i % 4) != 0;
+        }
+    }
+
+    private Option<Long> boxed(int i) {
+        return present[i] ? Option.Some(values[i]) : Option.<Long> None();
+    }
+
+    private OptionLong unboxed(int i) {
+        return present[i] ? OptionLong.Some(values[i]) : OptionLong.None();
+    }
+
+    @Benchmark
+    public long boxedSum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += boxed(i).or(0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long unboxedSum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += unboxed(i).or(0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Option<Long> boxedSome() {
+        return Option.Some(values[size - 1]);
+    }
+
+    @Benchmark
+    public OptionLong unboxedSome() {
+        return OptionLong.Some(values[size - 1]);
+    }
+}
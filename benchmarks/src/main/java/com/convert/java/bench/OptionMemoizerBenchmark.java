@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.convert.java.Option;
+import com.convert.java.OptionMemoizer;
+
+/**
+ * Lookups cycling over 1000 keys, half of them not found, through an expensive loader: uncached, cached for
+ * Some results only as a null-skipping cache would, and cached for both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionMemoizerBenchmark {
+
+    private static final int KEYS = 1000;
+
+    private static final Function<Integer, Option<String>> LOADER = k -> {
+        Blackhole.consumeCPU(500);
+        return k % 2 == 0 ? Option.Some("value") : Option.<String> None();
+    };
+
+    private OptionMemoizer<Integer, String> positiveOnly;
+
+    private OptionMemoizer<Integer, String> negative;
+
+    private Integer[] keys;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        positiveOnly = new OptionMemoizer<Integer, String>(LOADER, 2 * KEYS, 1, 0, TimeUnit.HOURS);
+        negative = new OptionMemoizer<Integer, String>(LOADER, 2 * KEYS, 1, 1, TimeUnit.HOURS);
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i;
+        }
+    }
+
+    private Integer key() {
+        int i = next;
+        next = i + 1 == KEYS ? 0 : i + 1;
+        return keys[i];
+    }
+
+    @Benchmark
+    public Option<String> uncached() {
+        return LOADER.apply(key());
+    }
+
+    @Benchmark
+    public Option<String> positiveOnly() {
+        return positiveOnly.apply(key());
+    }
+
+    @Benchmark
+    public Option<String> negativeCaching() {
+        return negative.apply(key());
+    }
+}
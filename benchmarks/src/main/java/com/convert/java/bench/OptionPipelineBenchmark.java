@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+import com.convert.java.OptionPipeline;
+
+/**
+ * opt.map(f).filter(p).map(g) written as chained Option calls and as a fused OptionPipeline, ending in an
+ * Option, in or(T) and in orNull().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionPipelineBenchmark {
+
+    private static final OptionPipeline<String, Integer> PIPELINE = OptionPipeline.<String> identity()
+            .map(String::length).filter(n -> n > 3).map(n -> n * 1000);
+
+    private Option<String> option;
+
+    private Integer fallback;
+
+    @Setup
+    public void setup() {
+        option = Option.Some("a-long-enough-value");
+        fallback = 0;
+    }
+
+    @Benchmark
+    public Option<Integer> chained() {
+        return option.map(String::length).filter(n -> n > 3).map(n -> n * 1000);
+    }
+
+    @Benchmark
+    public Option<Integer> fused() {
+        return PIPELINE.apply(option);
+    }
+
+    @Benchmark
+    public Integer chainedOr() {
+        return option.map(String::length).filter(n -> n > 3).map(n -> n * 1000).or(fallback);
+    }
+
+    @Benchmark
+    public Integer fusedOr() {
+        return PIPELINE.applyOr(option, fallback);
+    }
+
+    @Benchmark
+    public Integer chainedOrNull() {
+        return option.map(String::length).filter(n -> n > 3).map(n -> n * 1000).orNull();
+    }
+
+    @Benchmark
+    public Integer fusedOrNull() {
+        return PIPELINE.applyOrNull(option);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.MonoOption;
+import com.convert.java.Option;
+
+/**
+ * Consuming a mix of every Option class through virtual isSome()/get() calls and through a hand-written
+ * chain of instanceof tests over the permitted subclasses. Each test is against a final class, so it is a
+ * single class pointer compare.
+ * 
+ * The chain is not what a pattern switch compiles to: on JDK 21 javac turns a switch over the sealed Option
+ * into an invokedynamic of SwitchBootstraps.typeSwitch, and how that tests the cases is up to the runtime.
+ * Measure such a switch on JDK 21 rather than reading its cost off typeTestDispatch.
+ * 
+ * The benchmarks jar carries the multi-release option jar; run it on JDK 17 or later to load the sealed
+ * Option.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SealedDispatchBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private Option<Integer>[] options;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        options = new Option[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (i % 4) {
+            case 0:
+                options[i] = Option.None();
+                break;
+            case 1:
+                options[i] = Option.Some(i);
+                break;
+            case 2:
+                options[i] = Option.HashedSome(i);
+                break;
+            default:
+                options[i] = MonoOption.Option(i % 8 == 3 ? null : Integer.valueOf(i));
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public long virtualDispatch() {
+        long sum = 0;
+        for (Option<Integer> option : options) {
+            if (option.isSome()) {
+                sum += option.get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long typeTestDispatch() {
+        long sum = 0;
+        for (Option<?> option : options) {
+            if (option instanceof Option.Some) {
+                sum += (Integer) ((Option.Some<?>) option).get();
+            } else if (option instanceof Option.HashedSome) {
+                sum += (Integer) ((Option.HashedSome<?>) option).get();
+            } else if (option instanceof MonoOption) {
+                Object value = ((MonoOption<?>) option).orNull();
+                sum += null == value ? 0 : (Integer) value;
+            } else if (!(option instanceof Option.None)) {
+                throw new AssertionError(option);
+            }
+        }
+        return sum;
+    }
+}
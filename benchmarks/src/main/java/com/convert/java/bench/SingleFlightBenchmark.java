@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+import com.convert.java.SingleFlight;
+
+/**
+ * Sixteen threads looking up a few hot keys through a backend that serves two requests at a time, 200us
+ * each, directly and through SingleFlight. Half the keys are not found.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+public class SingleFlightBenchmark {
+
+    @Param({ "1", "4", "64" })
+    public int keys;
+
+    private final Semaphore backend = new Semaphore(2);
+
+    private Function<Integer, Option<String>> loader;
+
+    private SingleFlight<Integer, String> flight;
+
+    @Setup
+    public void setup() {
+        loader = k -> {
+            backend.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            } finally {
+                backend.release();
+            }
+            return k % 2 == 0 ? Option.Some("value") : Option.<String> None();
+        };
+        flight = new SingleFlight<Integer, String>(loader);
+    }
+
+    @Benchmark
+    public Option<String> direct() {
+        return loader.apply(ThreadLocalRandom.current().nextInt(keys));
+    }
+
+    @Benchmark
+    public Option<String> singleFlight() {
+        return flight.apply(ThreadLocalRandom.current().nextInt(keys));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.convert.java.Option;
+
+/**
+ * Option.Some for cacheable values against constructing the Some directly, which bypasses the canonical
+ * cache. The String pair shows the cost of the cache lookup on a miss.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SomeCacheBenchmark {
+
+    private Boolean bool;
+
+    private Integer smallInt;
+
+    private TimeUnit unit;
+
+    private String string;
+
+    @Setup
+    public void setup() {
+        bool = Boolean.TRUE;
+        smallInt = 42;
+        unit = TimeUnit.SECONDS;
+        string = "USD";
+    }
+
+    @Benchmark
+    public Option<Boolean> someBoolean() {
+        return Option.Some(bool);
+    }
+
+    @Benchmark
+    public Option<Integer> someSmallInt() {
+        return Option.Some(smallInt);
+    }
+
+    @Benchmark
+    public Option<TimeUnit> someEnum() {
+        return Option.Some(unit);
+    }
+
+    @Benchmark
+    public Option<String> someString() {
+        return Option.Some(string);
+    }
+
+    @Benchmark
+    public Option<Boolean> newSomeBoolean() {
+        return new Option.Some<Boolean>(bool);
+    }
+
+    @Benchmark
+    public Option<Integer> newSomeSmallInt() {
+        return new Option.Some<Integer>(smallInt);
+    }
+
+    @Benchmark
+    public Option<TimeUnit> newSomeEnum() {
+        return new Option.Some<TimeUnit>(unit);
+    }
+
+    @Benchmark
+    public Option<String> newSomeString() {
+        return new Option.Some<String>(string);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.convert.java.Option;
+import com.convert.java.Options;
+
+/**
+ * Sequential and parallel traverse with an expensive mapping function, when every element maps to some value
+ * and when the element at noneAt maps to None. A negative noneAt means no None.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraverseBenchmark {
+
+    @Param({ "1000" })
+    public int size;
+
+    @Param({ "-1", "10" })
+    public int noneAt;
+
+    @Param({ "4" })
+    public int parallelism;
+
+    private List<Integer> values;
+
+    private Function<Integer, Option<Integer>> expensive;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        values = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        final int none = noneAt;
+        expensive = i -> {
+            Blackhole.consumeCPU(1000);
+            return i == none ? Option.<Integer> None() : Option.Some(i);
+        };
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Option<List<Integer>> sequential() {
+        return Options.traverse(values, expensive);
+    }
+
+    @Benchmark
+    public Option<List<Integer>> parallel() {
+        return Options.parallelTraverse(values, expensive, pool, 1);
+    }
+}
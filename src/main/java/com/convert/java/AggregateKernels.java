@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+/**
+ * The loops behind {@link OptionAggregates}, over a value array and its presence bitmap. Implementations
+ * must give the results of {@link ScalarKernels}, except that double sums may differ in the last bits
+ * because the additions can happen in a different order.
+ */
+interface AggregateKernels {
+
+    /**
+     * @return the sum of every element of values, which holds 0 in None slots.
+     */
+    long sum(long[] values);
+
+    /**
+     * @return the sum of the present values.
+     */
+    double sum(double[] values, long[] present);
+
+    /**
+     * @return the smallest present value, or Long.MAX_VALUE if there are none.
+     */
+    long min(long[] values, long[] present);
+
+    /**
+     * @return the largest present value, or Long.MIN_VALUE if there are none.
+     */
+    long max(long[] values, long[] present);
+
+    /**
+     * @return the smallest present value by Math.min, or positive infinity if there are none.
+     */
+    double min(double[] values, long[] present);
+
+    /**
+     * @return the largest present value by Math.max, or negative infinity if there are none.
+     */
+    double max(double[] values, long[] present);
+}
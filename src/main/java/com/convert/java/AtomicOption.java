@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
+
+/**
+ * An option that threads can read and update atomically.
+ * 
+ * <pre>
+ * private final AtomicOption&lt;Node&gt; leader = new AtomicOption&lt;Node&gt;();
+ * 
+ * leader.setIfNone(self);
+ * leader.compareAndSet(self, null); // step down
+ * </pre>
+ * 
+ * The value is stored directly, with a private sentinel standing for None, so updates do not allocate a Some.
+ * An Option is only created by {@link #toOption()}. In the methods that take or return values, null stands
+ * for None. Values are compared by identity, as in {@link java.util.concurrent.atomic.AtomicReference}.
+ * 
+ * @param <T>
+ */
+public final class AtomicOption<T> {
+
+    private static final Object NONE = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomicOption, Object> VALUE = AtomicReferenceFieldUpdater
+            .newUpdater(AtomicOption.class, Object.class, "value_");
+
+    /**
+     * The value, or NONE.
+     */
+    private volatile Object value_;
+
+    /**
+     * Create an AtomicOption that is None.
+     */
+    public AtomicOption() {
+        this.value_ = NONE;
+    }
+
+    /**
+     * @param option
+     *            the initial option.
+     */
+    public AtomicOption(Option<? extends T> option) {
+        this.value_ = option.isSome() ? option.get() : NONE;
+    }
+
+    private static Object wrap(Object value) {
+        return null == value ? NONE : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unwrap(Object value) {
+        return NONE == value ? null : (T) value;
+    }
+
+    /**
+     * @return true if the current option is Some.
+     */
+    public boolean isSome() {
+        return NONE != value_;
+    }
+
+    /**
+     * @return true if the current option is None.
+     */
+    public boolean isNone() {
+        return NONE == value_;
+    }
+
+    /**
+     * @return the current value.
+     * @throws UnsupportedOperationException
+     *             if the current option is None.
+     */
+    public T get() {
+        Object value = value_;
+        if (NONE == value) {
+            throw new UnsupportedOperationException("Can't call get on None");
+        }
+        return unwrap(value);
+    }
+
+    /**
+     * @param defaultValue
+     *            must not be null when the current option is None, as in {@link Option#or(Object)}.
+     * @return the current value, or defaultValue if the current option is None.
+     */
+    public T or(T defaultValue) {
+        Object value = value_;
+        return NONE == value ? Option.checkNotNull(defaultValue) : AtomicOption.<T> unwrap(value);
+    }
+
+    /**
+     * @return the current value, or null if the current option is None.
+     */
+    public T orNull() {
+        return unwrap(value_);
+    }
+
+    /**
+     * @return the current option.
+     */
+    public Option<T> toOption() {
+        Object value = value_;
+        return NONE == value ? Option.<T> None() : Option.<T, T> Some(AtomicOption.<T> unwrap(value));
+    }
+
+    /**
+     * @param value
+     *            the new value, or null for None.
+     */
+    public void set(T value) {
+        value_ = wrap(value);
+    }
+
+    /**
+     * @param option
+     *            the new option.
+     */
+    public void set(Option<? extends T> option) {
+        value_ = option.isSome() ? option.get() : NONE;
+    }
+
+    /**
+     * Set the current option to None.
+     */
+    public void clear() {
+        value_ = NONE;
+    }
+
+    /**
+     * Set the value to update if the current value is expect.
+     * 
+     * @param expect
+     *            the expected value, or null to expect None.
+     * @param update
+     *            the new value, or null for None.
+     * @return true if the value was updated.
+     */
+    public boolean compareAndSet(T expect, T update) {
+        return VALUE.compareAndSet(this, wrap(expect), wrap(update));
+    }
+
+    /**
+     * Set the value if the current option is None.
+     * 
+     * @param value
+     *            must not be null.
+     * @return true if the value was set.
+     */
+    public boolean setIfNone(T value) {
+        return VALUE.compareAndSet(this, NONE, Option.checkNotNull(value));
+    }
+
+    /**
+     * @param value
+     *            the new value, or null for None.
+     * @return the previous value, or null if the previous option was None.
+     */
+    public T getAndSet(T value) {
+        return unwrap(VALUE.getAndSet(this, wrap(value)));
+    }
+
+    /**
+     * Atomically replace the value with the result of f, retrying if another thread updates it first. f may be
+     * called more than once and should be free of side effects.
+     * 
+     * @param f
+     *            called with the current value, or null for None, and returns the new value, or null for None.
+     * @return the new value, or null if the new option is None.
+     */
+    public T updateAndGet(UnaryOperator<T> f) {
+        Option.checkNotNull(f);
+        Object current;
+        Object next;
+        do {
+            current = value_;
+            next = wrap(f.apply(AtomicOption.<T> unwrap(current)));
+        } while (!VALUE.compareAndSet(this, current, next));
+        return unwrap(next);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        Object value = value_;
+        return NONE == value ? "AtomicOption(None)" : "AtomicOption(Some(" + value + "))";
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed length array of write-once optional slots for gathering results from concurrent tasks.
+ * 
+ * <pre>
+ * AtomicOptionArray&lt;Quote&gt; quotes = new AtomicOptionArray&lt;Quote&gt;(venues.size(), true);
+ * for (int i = 0; i &lt; venues.size(); i++) {
+ *     final int slot = i;
+ *     executor.execute(() -&gt; quotes.set(slot, venues.get(slot).quote()));
+ * }
+ * Option&lt;Quote&gt; first = quotes.get(0); // waits for the first venue
+ * </pre>
+ * 
+ * Each slot starts unset and is set once, to some value or to None; later writes to it are ignored. Values are
+ * stored directly, with a private sentinel standing for None, so setting a slot does not allocate a Some.
+ * Readers can wait for a slot to be set, and writers only take a lock when someone is waiting.
+ * 
+ * A padded array spaces its slots a cache line apart so that threads writing neighbouring slots do not
+ * contend on the same line, at the cost of 16 times the memory.
+ * 
+ * @param <T>
+ */
+public final class AtomicOptionArray<T> {
+
+    /**
+     * References per slot in a padded array: 64 bytes with compressed references.
+     */
+    static final int PADDED_STRIDE = 16;
+
+    private static final Object NONE = new Object();
+
+    /**
+     * Slot i is at index i * stride_: null while unset, then NONE or the value.
+     */
+    private final AtomicReferenceArray<Object> slots_;
+
+    private final int length_;
+
+    private final int stride_;
+
+    /**
+     * The number of threads waiting for a slot, so that writers can skip the lock when it is zero.
+     */
+    private final AtomicInteger waiters_ = new AtomicInteger();
+
+    private final Object lock_ = new Object();
+
+    /**
+     * Creates an unpadded array of length unset slots.
+     * 
+     * @param length
+     */
+    public AtomicOptionArray(int length) {
+        this(length, false);
+    }
+
+    /**
+     * Creates an array of length unset slots.
+     * 
+     * @param length
+     * @param padded
+     *            if true, slots are spaced a cache line apart.
+     */
+    public AtomicOptionArray(int length, boolean padded) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        this.length_ = length;
+        this.stride_ = padded ? PADDED_STRIDE : 1;
+        this.slots_ = new AtomicReferenceArray<Object>(Math.multiplyExact(length, stride_));
+    }
+
+    /**
+     * @return the number of slots.
+     */
+    public int length() {
+        return length_;
+    }
+
+    private Object slot(int i) {
+        Bits.checkIndex(i, length_);
+        return slots_.get(i * stride_);
+    }
+
+    /**
+     * @param i
+     * @return true if slot i has been set, to some value or to None.
+     */
+    public boolean isSet(int i) {
+        return null != slot(i);
+    }
+
+    /**
+     * Set slot i to some value if it is unset.
+     * 
+     * @param i
+     * @param value
+     * @return true if this call set the slot.
+     */
+    public boolean set(int i, T value) {
+        Option.checkNotNull(value);
+        return complete(i, value);
+    }
+
+    /**
+     * Set slot i to the value of option, or None, if it is unset.
+     * 
+     * @param i
+     * @param option
+     * @return true if this call set the slot.
+     */
+    public boolean set(int i, Option<? extends T> option) {
+        return complete(i, option.isSome() ? option.get() : NONE);
+    }
+
+    /**
+     * Set slot i to None if it is unset.
+     * 
+     * @param i
+     * @return true if this call set the slot.
+     */
+    public boolean setNone(int i) {
+        return complete(i, NONE);
+    }
+
+    private boolean complete(int i, Object value) {
+        Bits.checkIndex(i, length_);
+        if (!slots_.compareAndSet(i * stride_, null, value)) {
+            return false;
+        }
+        if (waiters_.get() > 0) {
+            synchronized (lock_) {
+                lock_.notifyAll();
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Option<T> toOption(Object value) {
+        return NONE == value ? Option.<T> None() : Option.<T, T> Some((T) value);
+    }
+
+    /**
+     * @param i
+     * @return the option in slot i, or None if it is unset.
+     */
+    public Option<T> getNow(int i) {
+        Object value = slot(i);
+        return null == value ? Option.<T> None() : AtomicOptionArray.<T> toOption(value);
+    }
+
+    /**
+     * Wait until slot i is set.
+     * 
+     * @param i
+     * @return the option in slot i.
+     * @throws InterruptedException
+     */
+    public Option<T> get(int i) throws InterruptedException {
+        try {
+            return get(i, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Wait at most timeout until slot i is set.
+     * 
+     * @param i
+     * @param timeout
+     * @param unit
+     * @return the option in slot i.
+     * @throws InterruptedException
+     * @throws TimeoutException
+     *             if slot i is still unset after timeout.
+     */
+    public Option<T> get(int i, long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        Object value = slot(i);
+        if (null != value) {
+            return toOption(value);
+        }
+        long deadline = System.nanoTime() + Math.min(unit.toNanos(timeout), Long.MAX_VALUE / 2);
+        waiters_.incrementAndGet();
+        try {
+            synchronized (lock_) {
+                // A writer that sets the slot after this read sees the waiter and notifies under lock_.
+                while (null == (value = slots_.get(i * stride_))) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException("Slot " + i + " is unset");
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(lock_, remaining);
+                }
+            }
+        } finally {
+            waiters_.decrementAndGet();
+        }
+        return toOption(value);
+    }
+
+    /**
+     * Copy the current slots into an OptionArray. Unset slots are None.
+     * 
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public OptionArray<T> snapshot() {
+        OptionArray<T> array = new OptionArray<T>(length_);
+        for (int i = 0; i < length_; i++) {
+            Object value = slots_.get(i * stride_);
+            if (null != value && NONE != value) {
+                array.set(i, (T) value);
+            }
+        }
+        return array;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < length_; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            Object value = slots_.get(i * stride_);
+            sb.append(null == value ? "?" : NONE == value ? "None" : "Some(" + value + ")");
+        }
+        return sb.append(']').toString();
+    }
+}
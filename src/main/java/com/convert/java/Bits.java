@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+/**
+ * Helpers for the presence bitmaps of the option columns. Bit i of the bitmap is set when slot i holds
+ * some value.
+ */
+final class Bits {
+
+    private Bits() {
+    }
+
+    /**
+     * @param length
+     *            the number of slots.
+     * @return the number of words needed to hold length bits.
+     */
+    static int words(int length) {
+        return (length + 63) >>> 6;
+    }
+
+    static boolean get(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    static void clear(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    /**
+     * @return the number of set bits.
+     */
+    static int count(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * @return the index of the first set bit at or after from, or -1 if there is none before length.
+     */
+    static int next(long[] bits, int from, int length) {
+        if (from >= length) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long word = bits[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                return i < length ? i : -1;
+            }
+            if (++w == bits.length) {
+                return -1;
+            }
+            word = bits[w];
+        }
+    }
+
+    static void checkIndex(int i, int length) {
+        if (i < 0 || i >= length) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Length: " + length);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ * Derived from FrequencySketch in Caffeine (https://github.com/ben-manes/caffeine):
+ *
+ * Copyright 2015 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.convert.java;
+
+/**
+ * Approximate access counts for the admission policy of {@link OptionCache}: a count-min sketch of 4-bit
+ * counters, sixteen to a word, with four counters per key. Once the number of increments reaches ten times
+ * the cache size every counter is halved, so that the counts follow recent popularity rather than all-time
+ * popularity. Not thread-safe.
+ * 
+ * The seeds, the index mixing and the halving follow Caffeine's sketch; see the NOTICE file.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = { 0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL,
+            0xCBF29CE484222325L };
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /**
+     * The largest count a counter holds.
+     */
+    static final int MAXIMUM = 15;
+
+    private final long[] table_;
+
+    private final int mask_;
+
+    private final int sampleSize_;
+
+    private int size_;
+
+    /**
+     * @param maximumSize
+     *            the size of the cache the sketch serves.
+     */
+    FrequencySketch(int maximumSize) {
+        int length = Integer.highestOneBit(Math.max(maximumSize, 16) - 1) << 1;
+        if (length <= 0) {
+            length = 1 << 30;
+        }
+        this.table_ = new long[length];
+        this.mask_ = length - 1;
+        this.sampleSize_ = (int) Math.min(10L * Math.max(maximumSize, 1), Integer.MAX_VALUE);
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int index(int h, int i) {
+        long x = (h + SEEDS[i]) * SEEDS[i];
+        x += x >>> 32;
+        return (int) x & mask_;
+    }
+
+    /**
+     * @return the estimated number of times e was counted, at most {@link #MAXIMUM}.
+     */
+    int frequency(Object e) {
+        int h = spread(e.hashCode());
+        int start = (h & 3) << 2;
+        int frequency = MAXIMUM;
+        for (int i = 0; i < 4; i++) {
+            int count = (int) ((table_[index(h, i)] >>> ((start + i) << 2)) & 0xF);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Count one access to e.
+     */
+    void increment(Object e) {
+        int h = spread(e.hashCode());
+        int start = (h & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(index(h, i), start + i);
+        }
+        if (added && ++size_ == sampleSize_) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int i, int j) {
+        int offset = j << 2;
+        long mask = 0xFL << offset;
+        if ((table_[i] & mask) != mask) {
+            table_[i] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halve every counter.
+     */
+    private void reset() {
+        for (int i = 0; i < table_.length; i++) {
+            table_[i] = (table_[i] >>> 1) & RESET_MASK;
+        }
+        size_ >>>= 1;
+    }
+}
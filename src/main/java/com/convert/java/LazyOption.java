@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.function.Supplier;
+
+/**
+ * An option computed on first use and shared by every thread that reads it afterwards.
+ * 
+ * <pre>
+ * private final LazyOption&lt;Address&gt; address = new LazyOption&lt;Address&gt;(() -&gt; geocode(location));
+ * 
+ * if (address.isSome()) {
+ *     send(address.get());
+ * }
+ * </pre>
+ * 
+ * The supplier runs at most once. Threads that race on the first read wait for it; every read after that is a
+ * single volatile load and takes no lock. If the supplier throws, nothing is stored and the next read tries
+ * again.
+ * 
+ * @param <T>
+ */
+public final class LazyOption<T> {
+
+    /**
+     * The computed option, or null until it is computed. Written once under the lock, read without it.
+     */
+    private volatile Option<T> option_;
+
+    /**
+     * Cleared once option_ is set so that whatever the supplier captured can be collected.
+     */
+    private Supplier<? extends Option<? extends T>> supplier_;
+
+    /**
+     * @param supplier
+     *            must not return null.
+     */
+    public LazyOption(Supplier<? extends Option<? extends T>> supplier) {
+        this.supplier_ = Option.checkNotNull(supplier);
+    }
+
+    /**
+     * Compute the option if it has not been computed yet.
+     * 
+     * @return the computed option.
+     */
+    public Option<T> toOption() {
+        Option<T> option = option_;
+        return null == option ? compute() : option;
+    }
+
+    /**
+     * @return true if the supplier has already run.
+     */
+    public boolean isComputed() {
+        return null != option_;
+    }
+
+    /**
+     * Compute the option if needed.
+     * 
+     * @return true if the computed option is Some.
+     */
+    public boolean isSome() {
+        return toOption().isSome();
+    }
+
+    /**
+     * Compute the option if needed.
+     * 
+     * @return true if the computed option is None.
+     */
+    public boolean isNone() {
+        return toOption().isNone();
+    }
+
+    /**
+     * Compute the option if needed.
+     * 
+     * @return the value of the computed option.
+     * @throws UnsupportedOperationException
+     *             if it is None.
+     */
+    public T get() {
+        return toOption().get();
+    }
+
+    /**
+     * Compute the option if needed.
+     * 
+     * @param defaultValue
+     * @return the value of the computed option, or defaultValue if it is None.
+     */
+    public T or(T defaultValue) {
+        return toOption().or(defaultValue);
+    }
+
+    /**
+     * Compute the option if needed.
+     * 
+     * @return the value of the computed option, or null if it is None.
+     */
+    public T orNull() {
+        return toOption().orNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized Option<T> compute() {
+        Option<T> option = option_;
+        if (null == option) {
+            // Options are immutable, so an Option<? extends T> can be read as an Option<T>.
+            option = (Option<T>) Option.checkNotNull(supplier_.get());
+            option_ = option;
+            supplier_ = null;
+        }
+        return option;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        Option<T> option = option_;
+        return "LazyOption(" + (null == option ? "?" : option) + ")";
+    }
+}
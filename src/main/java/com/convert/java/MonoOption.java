@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * An Option implemented by a single final class, where None is the instance holding null. Code that uses
+ * MonoOption as its static type calls every method non-virtually, so the JIT can inline them at call sites
+ * that would be bimorphic or megamorphic over Some and None.
+ * 
+ * A MonoOption is an Option and is equal to, and hashes like, the Some or None with the same content.
+ * 
+ * @param <T>
+ */
+public final class MonoOption<T> extends Option<T> {
+
+    private static final MonoOption<?> NONE = new MonoOption<Object>(null);
+
+    /**
+     * The value, or null for None.
+     */
+    private final T value_;
+
+    private MonoOption(T value) {
+        this.value_ = value;
+    }
+
+    /**
+     * A MonoOption factory which creates some value.
+     * 
+     * @param value
+     *            must not be null.
+     * @return
+     */
+    public static <T, Y extends T> MonoOption<T> Some(Y value) {
+        return new MonoOption<T>(checkNotNull(value));
+    }
+
+    /**
+     * A MonoOption factory which returns the None instance.
+     * 
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MonoOption<T> None() {
+        return (MonoOption<T>) NONE;
+    }
+
+    /**
+     * Return None if value is null and Some otherwise.
+     * 
+     * @param value
+     * @return
+     */
+    public static <T> MonoOption<T> Option(T value) {
+        return null == value ? MonoOption.<T> None() : new MonoOption<T>(value);
+    }
+
+    /**
+     * Convert any Option to a MonoOption.
+     * 
+     * @param option
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MonoOption<T> of(Option<? extends T> option) {
+        if (option instanceof MonoOption) {
+            return (MonoOption<T>) option;
+        }
+        return MonoOption.<T> Option(option.orNull());
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *             if this is None.
+     */
+    @Override
+    public T get() {
+        T value = value_;
+        if (null == value) {
+            throw new UnsupportedOperationException("Can't call get on None");
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isSome() {
+        return null != value_;
+    }
+
+    @Override
+    public boolean isNone() {
+        return null == value_;
+    }
+
+    @Override
+    public T or(T defaultValue) {
+        T value = value_;
+        if (null == value) {
+            return checkNotNull(defaultValue);
+        }
+        return value;
+    }
+
+    @Override
+    public Option<T> or(Option<T> otherValue) {
+        if (null == value_) {
+            return checkNotNull(otherValue);
+        }
+        return this;
+    }
+
+    /**
+     * Returns this instance if it is some value; otherValue otherwise.
+     * 
+     * @param otherValue
+     * @return
+     */
+    public MonoOption<T> or(MonoOption<T> otherValue) {
+        if (null == value_) {
+            return checkNotNull(otherValue);
+        }
+        return this;
+    }
+
+    @Override
+    public T orElseGet(Supplier<? extends T> defaultSupplier) {
+        T value = value_;
+        if (null == value) {
+            value = checkNotNull(defaultSupplier.get());
+        }
+        return value;
+    }
+
+    @Override
+    public <R> MonoOption<R> map(Function<? super T, ? extends R> f) {
+        T value = value_;
+        return null == value ? MonoOption.<R> None() : MonoOption.<R> Option(f.apply(value));
+    }
+
+    @Override
+    public MonoOption<T> filter(Predicate<? super T> p) {
+        T value = value_;
+        return null == value || p.test(value) ? this : MonoOption.<T> None();
+    }
+
+    @Override
+    public <R> MonoOption<R> flatMap(Function<? super T, ? extends Option<R>> f) {
+        T value = value_;
+        if (null == value) {
+            return MonoOption.None();
+        }
+        return MonoOption.of(checkNotNull(f.apply(value)));
+    }
+
+    @Override
+    public <R> R fold(Supplier<? extends R> ifNone, Function<? super T, ? extends R> ifSome) {
+        T value = value_;
+        return null == value ? ifNone.get() : ifSome.apply(value);
+    }
+
+    @Override
+    public int foldToInt(int ifNone, ToIntFunction<? super T> ifSome) {
+        T value = value_;
+        return null == value ? ifNone : ifSome.applyAsInt(value);
+    }
+
+    @Override
+    public long foldToLong(long ifNone, ToLongFunction<? super T> ifSome) {
+        T value = value_;
+        return null == value ? ifNone : ifSome.applyAsLong(value);
+    }
+
+    @Override
+    public double foldToDouble(double ifNone, ToDoubleFunction<? super T> ifSome) {
+        T value = value_;
+        return null == value ? ifNone : ifSome.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean foldToBoolean(boolean ifNone, Predicate<? super T> ifSome) {
+        T value = value_;
+        return null == value ? ifNone : ifSome.test(value);
+    }
+
+    @Override
+    public T orNull() {
+        return value_;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        checkNotNull(action);
+        T value = value_;
+        if (null != value) {
+            action.accept(value);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final T value = value_;
+        if (null == value) {
+            return Collections.emptyIterator();
+        }
+        return new Iterator<T>() {
+
+            private boolean hasNext = true;
+
+            public boolean hasNext() {
+                return hasNext;
+            }
+
+            public T next() {
+                if (!hasNext) {
+                    throw new NoSuchElementException();
+                }
+                hasNext = false;
+                return value;
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /*
+     * Same as Some and None.
+     */
+    @Override
+    public int hashCode() {
+        T value = value_;
+        return null == value ? 31 : 31 + value.hashCode();
+    }
+
+    /*
+     * Equal to any Option with the same content.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Option)) {
+            return false;
+        }
+        Option<?> other = (Option<?>) obj;
+        T value = value_;
+        if (null == value) {
+            return other.isNone();
+        }
+        return other.isSome() && value.equals(other.get());
+    }
+
+    @Override
+    public String toString() {
+        T value = value_;
+        return null == value ? "None" : "Some(" + value + ")";
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owns the memory of off-heap option columns. Every column allocated from an arena lives until the arena is
+ * closed; after that any access to it throws IllegalStateException.
+ * 
+ * Columns are backed by direct ByteBuffers, so their memory is outside the Java heap and is bounded by
+ * -XX:MaxDirectMemorySize. Closing the arena drops the buffers and the memory is returned once they are
+ * collected. Arenas and their columns are not thread-safe.
+ */
+public final class OffHeapArena implements Closeable {
+
+    private final List<OffHeapColumn> columns_ = new ArrayList<OffHeapColumn>();
+
+    private boolean closed_;
+
+    /**
+     * Allocate a column of length optional longs, all None.
+     * 
+     * @param length
+     * @return
+     */
+    public OffHeapOptionLongArray allocateLongArray(int length) {
+        return new OffHeapOptionLongArray(allocate(length));
+    }
+
+    /**
+     * Allocate a column of length optional doubles, all None.
+     * 
+     * @param length
+     * @return
+     */
+    public OffHeapOptionDoubleArray allocateDoubleArray(int length) {
+        return new OffHeapOptionDoubleArray(allocate(length));
+    }
+
+    /**
+     * Copy a heap column into a new off-heap column.
+     * 
+     * @param array
+     * @return
+     */
+    public OffHeapOptionLongArray copyOf(OptionLongArray array) {
+        OffHeapOptionLongArray copy = allocateLongArray(array.length());
+        copy.copyFrom(array);
+        return copy;
+    }
+
+    /**
+     * Copy a heap column into a new off-heap column.
+     * 
+     * @param array
+     * @return
+     */
+    public OffHeapOptionDoubleArray copyOf(OptionDoubleArray array) {
+        OffHeapOptionDoubleArray copy = allocateDoubleArray(array.length());
+        copy.copyFrom(array);
+        return copy;
+    }
+
+    /**
+     * @return true once the arena is closed.
+     */
+    public boolean isClosed() {
+        return closed_;
+    }
+
+    /**
+     * Release every column allocated from this arena. Closing twice has no effect.
+     */
+    public void close() {
+        if (closed_) {
+            return;
+        }
+        closed_ = true;
+        for (OffHeapColumn column : columns_) {
+            column.close();
+        }
+        columns_.clear();
+    }
+
+    private OffHeapColumn allocate(int length) {
+        checkOpen();
+        return register(new OffHeapColumn(length));
+    }
+
+    /**
+     * Tie the lifetime of column to this arena.
+     */
+    OffHeapColumn register(OffHeapColumn column) {
+        checkOpen();
+        columns_.add(column);
+        return column;
+    }
+
+    private void checkOpen() {
+        if (closed_) {
+            throw new IllegalStateException("Arena is closed");
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Storage shared by the off-heap option columns: fixed-width 8 byte values split over buffers of at most
+ * 2^CHUNK_SHIFT slots, since a single ByteBuffer can't address more than 2GB, plus a presence bitmap held in
+ * its own buffer as 64 bit words.
+ */
+final class OffHeapColumn {
+
+    /**
+     * 2^27 slots of 8 bytes, 1GB per buffer.
+     */
+    static final int CHUNK_SHIFT = 27;
+
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final int length_;
+
+    private ByteBuffer[] chunks_;
+
+    private ByteBuffer present_;
+
+    /**
+     * Allocates a zeroed, all None, column in direct memory.
+     * 
+     * @param length
+     */
+    OffHeapColumn(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        int chunks = chunks(length);
+        ByteBuffer[] buffers = new ByteBuffer[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int slots = Math.min(length - (c << CHUNK_SHIFT), 1 << CHUNK_SHIFT);
+            buffers[c] = ByteBuffer.allocateDirect(slots << 3).order(ByteOrder.nativeOrder());
+        }
+        this.length_ = length;
+        this.chunks_ = buffers;
+        this.present_ = ByteBuffer.allocateDirect(Bits.words(length) << 3).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Wraps existing buffers. Each chunk but the last must hold exactly 2^CHUNK_SHIFT slots.
+     * 
+     * @param length
+     * @param chunks
+     * @param present
+     */
+    OffHeapColumn(int length, ByteBuffer[] chunks, ByteBuffer present) {
+        this.length_ = length;
+        this.chunks_ = chunks;
+        this.present_ = present;
+    }
+
+    /**
+     * @return the number of buffers needed to hold length slots.
+     */
+    static int chunks(int length) {
+        return (int) (((long) length + CHUNK_MASK) >>> CHUNK_SHIFT);
+    }
+
+    int length() {
+        return length_;
+    }
+
+    boolean isSome(int i) {
+        Bits.checkIndex(i, length_);
+        return (present().getLong((i >>> 6) << 3) & (1L << i)) != 0;
+    }
+
+    /**
+     * @return the raw 8 bytes of slot i.
+     */
+    long bits(int i) {
+        return chunks()[i >>> CHUNK_SHIFT].getLong((i & CHUNK_MASK) << 3);
+    }
+
+    void set(int i, long bits) {
+        Bits.checkIndex(i, length_);
+        checkWritable();
+        chunks()[i >>> CHUNK_SHIFT].putLong((i & CHUNK_MASK) << 3, bits);
+        int word = (i >>> 6) << 3;
+        present_.putLong(word, present_.getLong(word) | (1L << i));
+    }
+
+    void clear(int i) {
+        Bits.checkIndex(i, length_);
+        checkWritable();
+        chunks()[i >>> CHUNK_SHIFT].putLong((i & CHUNK_MASK) << 3, 0L);
+        int word = (i >>> 6) << 3;
+        present_.putLong(word, present_.getLong(word) & ~(1L << i));
+    }
+
+    /**
+     * @return word w of the presence bitmap.
+     */
+    long presentWord(int w) {
+        return present().getLong(w << 3);
+    }
+
+    int count() {
+        ByteBuffer present = present();
+        int count = 0;
+        for (int w = 0, words = Bits.words(length_); w < words; w++) {
+            count += Long.bitCount(present.getLong(w << 3));
+        }
+        return count;
+    }
+
+    int next(int from) {
+        if (from >= length_) {
+            return -1;
+        }
+        ByteBuffer present = present();
+        int words = Bits.words(length_);
+        int w = from >>> 6;
+        long word = present.getLong(w << 3) & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                return i < length_ ? i : -1;
+            }
+            if (++w == words) {
+                return -1;
+            }
+            word = present.getLong(w << 3);
+        }
+    }
+
+    /**
+     * Bulk copy of a heap column into this one.
+     */
+    void copyFrom(long[] values, long[] present) {
+        checkWritable();
+        ByteBuffer[] chunks = chunks();
+        for (int c = 0; c < chunks.length; c++) {
+            ByteBuffer chunk = chunks[c].duplicate().order(chunks[c].order());
+            chunk.clear();
+            chunk.asLongBuffer().put(values, c << CHUNK_SHIFT, chunk.capacity() >>> 3);
+        }
+        ByteBuffer bitmap = present_.duplicate().order(present_.order());
+        bitmap.clear();
+        bitmap.asLongBuffer().put(present);
+    }
+
+    /**
+     * Bulk copy of a heap column into this one.
+     */
+    void copyFrom(double[] values, long[] present) {
+        checkWritable();
+        ByteBuffer[] chunks = chunks();
+        for (int c = 0; c < chunks.length; c++) {
+            ByteBuffer chunk = chunks[c].duplicate().order(chunks[c].order());
+            chunk.clear();
+            chunk.asDoubleBuffer().put(values, c << CHUNK_SHIFT, chunk.capacity() >>> 3);
+        }
+        ByteBuffer bitmap = present_.duplicate().order(present_.order());
+        bitmap.clear();
+        bitmap.asLongBuffer().put(present);
+    }
+
+    /**
+     * Bulk copy of this column to the heap.
+     */
+    void copyTo(long[] values, long[] present) {
+        ByteBuffer[] chunks = chunks();
+        for (int c = 0; c < chunks.length; c++) {
+            ByteBuffer chunk = chunks[c].duplicate().order(chunks[c].order());
+            chunk.clear();
+            chunk.asLongBuffer().get(values, c << CHUNK_SHIFT, chunk.capacity() >>> 3);
+        }
+        ByteBuffer bitmap = present_.duplicate().order(present_.order());
+        bitmap.clear();
+        bitmap.asLongBuffer().get(present);
+    }
+
+    /**
+     * Bulk copy of this column to the heap.
+     */
+    void copyTo(double[] values, long[] present) {
+        ByteBuffer[] chunks = chunks();
+        for (int c = 0; c < chunks.length; c++) {
+            ByteBuffer chunk = chunks[c].duplicate().order(chunks[c].order());
+            chunk.clear();
+            chunk.asDoubleBuffer().get(values, c << CHUNK_SHIFT, chunk.capacity() >>> 3);
+        }
+        ByteBuffer bitmap = present_.duplicate().order(present_.order());
+        bitmap.clear();
+        bitmap.asLongBuffer().get(present);
+    }
+
+    /**
+     * Drops the buffers. Any later access throws IllegalStateException, and the memory is given back once the
+     * buffers are collected.
+     */
+    void close() {
+        chunks_ = null;
+        present_ = null;
+    }
+
+    /**
+     * @return true if the buffers are read-only, as for a column mapped from a file.
+     */
+    boolean isReadOnly() {
+        return present().isReadOnly();
+    }
+
+    private void checkWritable() {
+        if (present().isReadOnly()) {
+            throw new UnsupportedOperationException("Column is read-only");
+        }
+    }
+
+    boolean isClosed() {
+        return null == chunks_;
+    }
+
+    private ByteBuffer[] chunks() {
+        ByteBuffer[] chunks = chunks_;
+        if (null == chunks) {
+            throw new IllegalStateException("Column is closed");
+        }
+        return chunks;
+    }
+
+    private ByteBuffer present() {
+        ByteBuffer present = present_;
+        if (null == present) {
+            throw new IllegalStateException("Column is closed");
+        }
+        return present;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+/**
+ * A fixed length array of optional primitive longs kept off the Java heap. Slots have the same semantics as
+ * {@link OptionLongArray}. Instances are allocated from, and live as long as, an {@link OffHeapArena}.
+ */
+public final class OffHeapOptionLongArray {
+
+    final OffHeapColumn column_;
+
+    OffHeapOptionLongArray(OffHeapColumn column) {
+        this.column_ = column;
+    }
+
+    /**
+     * @return the number of slots.
+     */
+    public int length() {
+        return column_.length();
+    }
+
+    /**
+     * Check if slot i is some value.
+     * 
+     * @param i
+     * @return
+     */
+    public boolean isSome(int i) {
+        return column_.isSome(i);
+    }
+
+    /**
+     * Check if slot i is none.
+     * 
+     * @param i
+     * @return
+     */
+    public boolean isNone(int i) {
+        return !column_.isSome(i);
+    }
+
+    /**
+     * Returns the value of slot i.
+     * 
+     * @param i
+     * @return
+     * @throws UnsupportedOperationException
+     *             if the slot is None.
+     */
+    public long get(int i) {
+        if (!column_.isSome(i)) {
+            throw new UnsupportedOperationException("Can't call get on None");
+        }
+        return column_.bits(i);
+    }
+
+    /**
+     * Returns the value of slot i if it is present; defaultValue otherwise.
+     * 
+     * @param i
+     * @param defaultValue
+     * @return
+     */
+    public long or(int i, long defaultValue) {
+        return column_.isSome(i) ? column_.bits(i) : defaultValue;
+    }
+
+    /**
+     * Returns slot i as an OptionLong.
+     * 
+     * @param i
+     * @return
+     */
+    public OptionLong option(int i) {
+        return column_.isSome(i) ? OptionLong.Some(column_.bits(i)) : OptionLong.None();
+    }
+
+    /**
+     * Set slot i to some value.
+     * 
+     * @param i
+     * @param value
+     * @throws UnsupportedOperationException
+     *             if the column is read-only.
+     */
+    public void set(int i, long value) {
+        column_.set(i, value);
+    }
+
+    /**
+     * Set slot i to the value of option, or None.
+     * 
+     * @param i
+     * @param option
+     * @throws UnsupportedOperationException
+     *             if the column is read-only.
+     */
+    public void set(int i, OptionLong option) {
+        if (option.isSome()) {
+            column_.set(i, option.getAsLong());
+        } else {
+            column_.clear(i);
+        }
+    }
+
+    /**
+     * Set slot i to None.
+     * 
+     * @param i
+     * @throws UnsupportedOperationException
+     *             if the column is read-only.
+     */
+    public void clear(int i) {
+        column_.clear(i);
+    }
+
+    /**
+     * @return true if the slots can't be changed, as for a column mapped by {@link OptionColumnFile}.
+     */
+    public boolean isReadOnly() {
+        return column_.isReadOnly();
+    }
+
+    /**
+     * @return the number of slots holding some value.
+     */
+    public int count() {
+        return column_.count();
+    }
+
+    /**
+     * Returns the index of the first slot at or after from that holds some value, or -1 if there is none.
+     * 
+     * @param from
+     * @return
+     */
+    public int nextSome(int from) {
+        return column_.next(Math.max(from, 0));
+    }
+
+    /**
+     * Overwrite every slot with the slots of a heap column of the same length.
+     * 
+     * @param array
+     * @throws UnsupportedOperationException
+     *             if the column is read-only.
+     */
+    public void copyFrom(OptionLongArray array) {
+        checkLength(array.length());
+        column_.copyFrom(array.values_, array.present_);
+    }
+
+    /**
+     * Copy this column to the heap.
+     * 
+     * @return
+     */
+    public OptionLongArray toHeap() {
+        OptionLongArray array = new OptionLongArray(column_.length());
+        column_.copyTo(array.values_, array.present_);
+        return array;
+    }
+
+    private void checkLength(int length) {
+        if (length != column_.length()) {
+            throw new IllegalArgumentException("Length mismatch: " + length + " != " + column_.length());
+        }
+    }
+}
@@ -18,14 +18,28 @@
  */
 package com.convert.java;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Represents optional values. Instances of Option are either an instance of Some or None.
  * 
  * The most idiomatic way to use an Option instance is to treat it as a collection in a for loop.
  * 
+ * On Java 17 and later the multi-release jar loads a sealed version of this class that permits only Some,
+ * None, HashedSome and {@link MonoOption}, so a pattern switch over an Option can be checked for
+ * exhaustiveness. None is an Option&lt;Object&gt;, so switch over an Option&lt;?&gt; to be able to match it.
+ * 
  * @author ghais.
  * 
  * @param <T>
@@ -39,6 +53,22 @@ public abstract class Option<T> implements Iterable<T> {
      */
     abstract public T get();
 
+    /**
+     * Returns the option's value, or throws the exception created by exceptionSupplier if this is None. The
+     * supplier is only called on None, so it may return a preallocated exception.
+     * 
+     * @param exceptionSupplier
+     * @return the option's value.
+     * @throws X
+     *             if this is None.
+     */
+    public <X extends Throwable> T getOrThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (this.isSome()) {
+            return this.get();
+        }
+        throw checkNotNull(exceptionSupplier.get());
+    }
+
     /**
      * Check if the instance is some value.
      * 
@@ -56,12 +86,15 @@ public abstract class Option<T> implements Iterable<T> {
     }
 
     /**
-     * Get an iterator.
+     * Get an iterator. None returns a shared empty iterator.
      */
     public Iterator<T> iterator() {
+        if (this.isNone()) {
+            return Collections.emptyIterator();
+        }
         return new Iterator<T>() {
 
-            private boolean hasNext = isSome();
+            private boolean hasNext = true;
 
             public boolean hasNext() {
                 return hasNext;
@@ -82,6 +115,31 @@ public abstract class Option<T> implements Iterable<T> {
         };
     }
 
+    /**
+     * Performs the given action on the value if there is one. Unlike the default Iterable implementation
+     * this does not create an iterator.
+     * 
+     * @param action
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        checkNotNull(action);
+        if (this.isSome()) {
+            action.accept(this.get());
+        }
+    }
+
+    /**
+     * Get a spliterator over zero or one element. None returns a shared empty spliterator.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        if (this.isNone()) {
+            return Spliterators.emptySpliterator();
+        }
+        return new SomeSpliterator<T>(this.get());
+    }
+
     /**
      * Returns the contained instance if it is present; defaultValue otherwise.
      * 
@@ -110,6 +168,153 @@ public abstract class Option<T> implements Iterable<T> {
         return this;
     }
 
+    /**
+     * Returns the contained instance if it is present; the value computed by defaultSupplier otherwise. The
+     * supplier is only called on None.
+     * 
+     * @param defaultSupplier
+     *            must not return null.
+     * @return
+     */
+    public T orElseGet(Supplier<? extends T> defaultSupplier) {
+        if (this.isNone()) {
+            return checkNotNull(defaultSupplier.get());
+        }
+
+        return this.get();
+    }
+
+    /**
+     * Returns this instance if it is some value; the option computed by otherSupplier otherwise. The supplier
+     * is only called on None.
+     * 
+     * @param otherSupplier
+     *            must not return null.
+     * @return
+     */
+    public Option<T> orElseOption(Supplier<? extends Option<T>> otherSupplier) {
+        if (this.isNone()) {
+            return checkNotNull(otherSupplier.get());
+        }
+
+        return this;
+    }
+
+    /**
+     * Apply f to the value if there is one. The result is None if this is None or f returns null.
+     * 
+     * Each step of a chain of map, filter and flatMap creates its own Some; see {@link OptionPipeline} to
+     * compose the steps first and apply them in one pass.
+     * 
+     * @param f
+     * @return
+     */
+    public <R> Option<R> map(Function<? super T, ? extends R> f) {
+        if (this.isNone()) {
+            return None();
+        }
+        return Option(f.apply(this.get()));
+    }
+
+    /**
+     * Returns this instance if it is some value that satisfies p, and None otherwise.
+     * 
+     * @param p
+     * @return
+     */
+    public Option<T> filter(Predicate<? super T> p) {
+        if (this.isNone() || !p.test(this.get())) {
+            return None();
+        }
+        return this;
+    }
+
+    /**
+     * Apply f to the value if there is one and return its result, or None if this is None.
+     * 
+     * @param f
+     *            must not return null.
+     * @return
+     */
+    public <R> Option<R> flatMap(Function<? super T, ? extends Option<R>> f) {
+        if (this.isNone()) {
+            return None();
+        }
+        return checkNotNull(f.apply(this.get()));
+    }
+
+    /**
+     * Apply ifSome to the value if there is one, or return the result of ifNone.
+     * 
+     * Lambdas that capture nothing are created once, so folding with them doesn't allocate.
+     * 
+     * @param ifNone
+     * @param ifSome
+     * @return
+     */
+    public <R> R fold(Supplier<? extends R> ifNone, Function<? super T, ? extends R> ifSome) {
+        if (this.isNone()) {
+            return ifNone.get();
+        }
+        return ifSome.apply(this.get());
+    }
+
+    /**
+     * Apply ifSome to the value if there is one, or return ifNone, without boxing the result.
+     * 
+     * @param ifNone
+     * @param ifSome
+     * @return
+     */
+    public int foldToInt(int ifNone, ToIntFunction<? super T> ifSome) {
+        if (this.isNone()) {
+            return ifNone;
+        }
+        return ifSome.applyAsInt(this.get());
+    }
+
+    /**
+     * Apply ifSome to the value if there is one, or return ifNone, without boxing the result.
+     * 
+     * @param ifNone
+     * @param ifSome
+     * @return
+     */
+    public long foldToLong(long ifNone, ToLongFunction<? super T> ifSome) {
+        if (this.isNone()) {
+            return ifNone;
+        }
+        return ifSome.applyAsLong(this.get());
+    }
+
+    /**
+     * Apply ifSome to the value if there is one, or return ifNone, without boxing the result.
+     * 
+     * @param ifNone
+     * @param ifSome
+     * @return
+     */
+    public double foldToDouble(double ifNone, ToDoubleFunction<? super T> ifSome) {
+        if (this.isNone()) {
+            return ifNone;
+        }
+        return ifSome.applyAsDouble(this.get());
+    }
+
+    /**
+     * Test the value with ifSome if there is one, or return ifNone, without boxing the result.
+     * 
+     * @param ifNone
+     * @param ifSome
+     * @return
+     */
+    public boolean foldToBoolean(boolean ifNone, Predicate<? super T> ifSome) {
+        if (this.isNone()) {
+            return ifNone;
+        }
+        return ifSome.test(this.get());
+    }
+
     /**
      * Return an instance of None if T is null and Some otherwise.
      * 
@@ -150,13 +355,22 @@ public abstract class Option<T> implements Iterable<T> {
     /**
      * An Option factory which creates Some<T>(x) if the argument is not null, and None if it is null.
      * 
+     * Booleans, enum constants and small Byte, Short, Integer, Long and Character values are wrapped in a
+     * shared canonical instance instead, like Integer.valueOf. Numbers from -128 to 127 are cached by default;
+     * the range is set with the system properties com.convert.java.Option.someCache.low and high.
+     * 
      * @param <T>
      * @param <Y extends T>
      * @param value
      * @return
      */
+    @SuppressWarnings("unchecked")
     public static <T, Y extends T> Option<T> Some(Y value) {
-        return new Option.Some<T>(checkNotNull(value));
+        Option<?> cached = SomeCache.get(checkNotNull(value));
+        if (null != cached) {
+            return (Option<T>) cached;
+        }
+        return new Option.Some<T>(value);
     }
 
     /**
@@ -239,6 +453,101 @@ public abstract class Option<T> implements Iterable<T> {
 
     }
 
+    /**
+     * An Option factory which creates a Some that computes the hash code of its value once and then remembers
+     * it. Use it for options kept as keys of hash based collections whose values are expensive to hash; the
+     * value must not change in a way that changes its hash code.
+     * 
+     * The result is equal to, and has the same hash code as, Some(value).
+     * 
+     * @param <T>
+     * @param <Y extends T>
+     * @param value
+     * @return
+     */
+    public static <T, Y extends T> Option<T> HashedSome(Y value) {
+        return new Option.HashedSome<T>(checkNotNull(value));
+    }
+
+    /**
+     * A Some that caches the hash code of its value. It costs an extra int per instance over {@link Some}.
+     * 
+     * @param <T>
+     */
+    static public final class HashedSome<T> extends Option<T> {
+
+        private final T value_;
+
+        /**
+         * The hash code, or 0 if not computed yet. Racy but idempotent, as in String.
+         */
+        private int hash_;
+
+        /**
+         * Creates an instance with some value.
+         * 
+         * @param value
+         *            the object's value.
+         */
+        public HashedSome(T value) {
+            this.value_ = checkNotNull(value);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.convert.java.Option#get()
+         */
+        @Override
+        public T get() {
+            return value_;
+        }
+
+        /*
+         * Same as Some.hashCode(), computed on first use.
+         */
+        @Override
+        public int hashCode() {
+            int h = hash_;
+            if (h == 0) {
+                h = 31 + value_.hashCode();
+                hash_ = h;
+            }
+            return h;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Option)) {
+                return false;
+            }
+            Option<?> other = (Option<?>) obj;
+            if (!other.isSome()) {
+                return false;
+            }
+            if (other instanceof HashedSome && ((HashedSome<?>) other).hashCode() != hashCode()) {
+                return false;
+            }
+            return value_.equals(other.get());
+        }
+
+        @Override
+        public String toString() {
+            return "Some(" + value_.toString() + ")";
+        }
+
+        @Override
+        public boolean isSome() {
+            return true;
+        }
+    }
+
     /**
      * An instance of this class represents a non existent value of type T.
      * 
@@ -250,6 +559,21 @@ public abstract class Option<T> implements Iterable<T> {
 
         private static final None NONE = new None();
 
+        /**
+         * Name of the system property that, when true, makes get() throw a single preallocated exception
+         * without a stack trace instead of creating a new one on each call. Read once when None is loaded.
+         * 
+         * The exception is shared by every thread. Its stack trace stays empty and its cause can't be set, but
+         * Throwable.addSuppressed can't be turned off on it: a try-with-resources block whose close() fails
+         * after None.get() threw adds that failure to the shared instance for good, and the suppressed list
+         * keeps growing. Leave the property off where such blocks can throw on None.get().
+         */
+        public static final String STACKLESS_PROPERTY = "com.convert.java.Option.stacklessNone";
+
+        private static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+        private static final UnsupportedOperationException STACKLESS_EXCEPTION = new StacklessException();
+
         /**
          * Construct an instance of this object.
          */
@@ -258,9 +582,13 @@ public abstract class Option<T> implements Iterable<T> {
 
         /**
          * @throws UnsupportedOperationException
+         *             a shared instance without a stack trace if {@link #STACKLESS_PROPERTY} is set.
          */
         @Override
         public Object get() {
+            if (STACKLESS) {
+                throw STACKLESS_EXCEPTION;
+            }
             throw new UnsupportedOperationException("Can't call get on None");
         }
 
@@ -299,6 +627,81 @@ public abstract class Option<T> implements Iterable<T> {
         }
     }
 
+    /**
+     * The exception thrown by None.get() in stackless mode. It never captures a stack trace, so one instance
+     * can be thrown from everywhere.
+     */
+    private static final class StacklessException extends UnsupportedOperationException {
+
+        private static final long serialVersionUID = 1L;
+
+        StacklessException() {
+            super("Can't call get on None");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        /**
+         * Ignored, so the shared instance keeps its empty stack trace.
+         */
+        @Override
+        public void setStackTrace(StackTraceElement[] stackTrace) {
+        }
+
+        /**
+         * @throws IllegalStateException
+         *             always, so the shared instance never carries a cause from one of its throwers.
+         */
+        @Override
+        public synchronized Throwable initCause(Throwable cause) {
+            throw new IllegalStateException("Can't set the cause of the shared None exception");
+        }
+    }
+
+    /**
+     * A spliterator over the single value of Some.
+     * 
+     * @param <T>
+     */
+    private static final class SomeSpliterator<T> implements Spliterator<T> {
+
+        private T value_;
+
+        SomeSpliterator(T value) {
+            this.value_ = value;
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action) {
+            checkNotNull(action);
+            if (null == value_) {
+                return false;
+            }
+            T value = value_;
+            value_ = null;
+            action.accept(value);
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            tryAdvance(action);
+        }
+
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        public long estimateSize() {
+            return null == value_ ? 0 : 1;
+        }
+
+        public int characteristics() {
+            return SIZED | SUBSIZED | NONNULL | IMMUTABLE | ORDERED | DISTINCT;
+        }
+    }
+
     /**
      * @return
      */
@@ -306,7 +709,12 @@ public abstract class Option<T> implements Iterable<T> {
         return this.isSome() ? this.get() : null;
     }
 
-    private static <Y> Y checkNotNull(Y y) {
+    /**
+     * @throws NullPointerException
+     *             if y is null.
+     * @return y.
+     */
+    static <Y> Y checkNotNull(Y y) {
         if (null == y) {
             throw new NullPointerException();
         }
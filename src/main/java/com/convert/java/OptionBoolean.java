@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+/**
+ * An optional primitive boolean. Instances are either Some value or None.
+ * 
+ * There are only three distinct values, so every instance is shared and no factory method allocates.
+ */
+public final class OptionBoolean {
+
+    private static final OptionBoolean NONE = new OptionBoolean(false, false);
+
+    private static final OptionBoolean SOME_TRUE = new OptionBoolean(true, true);
+
+    private static final OptionBoolean SOME_FALSE = new OptionBoolean(true, false);
+
+    private final boolean isSome_;
+
+    private final boolean value_;
+
+    private OptionBoolean(boolean isSome, boolean value) {
+        this.isSome_ = isSome;
+        this.value_ = value;
+    }
+
+    /**
+     * An OptionBoolean factory which returns Some(value).
+     * 
+     * @param value
+     * @return
+     */
+    public static OptionBoolean Some(boolean value) {
+        return value ? SOME_TRUE : SOME_FALSE;
+    }
+
+    /**
+     * An OptionBoolean factory which returns the None instance.
+     * 
+     * @return
+     */
+    public static OptionBoolean None() {
+        return NONE;
+    }
+
+    /**
+     * Return None if value is null and Some otherwise.
+     * 
+     * @param value
+     * @return
+     */
+    public static OptionBoolean Option(Boolean value) {
+        if (null == value) {
+            return NONE;
+        }
+        return Some(value.booleanValue());
+    }
+
+    /**
+     * Convert a generic option to an OptionBoolean.
+     * 
+     * @param option
+     * @return
+     */
+    public static OptionBoolean fromOption(Option<? extends Boolean> option) {
+        if (option.isNone()) {
+            return NONE;
+        }
+        return Some(option.get().booleanValue());
+    }
+
+    /**
+     * Returns the option's value.
+     * 
+     * @return the option's value.
+     * @throws UnsupportedOperationException
+     *             if this is None.
+     */
+    public boolean getAsBoolean() {
+        if (!isSome_) {
+            throw new UnsupportedOperationException("Can't call get on None");
+        }
+        return value_;
+    }
+
+    /**
+     * Check if the instance is some value.
+     * 
+     * @return true if the instance is some value, or false otherwise.
+     */
+    public boolean isSome() {
+        return isSome_;
+    }
+
+    /**
+     * Return true if the instance is none.
+     * 
+     * @return true if the instance is none and false otherwise.
+     */
+    public boolean isNone() {
+        return !isSome_;
+    }
+
+    /**
+     * Returns the contained value if it is present; defaultValue otherwise.
+     * 
+     * @param defaultValue
+     * @return
+     */
+    public boolean or(boolean defaultValue) {
+        return isSome_ ? value_ : defaultValue;
+    }
+
+    /**
+     * Returns this instance if it is some value; otherValue otherwise.
+     * 
+     * @param otherValue
+     * @return
+     */
+    public OptionBoolean or(OptionBoolean otherValue) {
+        if (!isSome_) {
+            return Option.checkNotNull(otherValue);
+        }
+        return this;
+    }
+
+    /**
+     * Box this instance into a generic Option.
+     * 
+     * @return
+     */
+    public Option<Boolean> toOption() {
+        if (!isSome_) {
+            return Option.None();
+        }
+        return Option.Some(Boolean.valueOf(value_));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        if (!isSome_) {
+            return 31;
+        }
+        return 31 + (value_ ? 1231 : 1237);
+    }
+
+    /*
+     * Instances are canonical, so identity is equality.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public String toString() {
+        return isSome_ ? "Some(" + value_ + ")" : "None";
+    }
+}
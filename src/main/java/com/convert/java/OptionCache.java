@@ -0,0 +1,429 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A bounded cache whose lookups return Option: Some for a cached value and the None singleton for a miss.
+ * 
+ * <pre>
+ * OptionCache&lt;String, Quote&gt; quotes = new OptionCache&lt;String, Quote&gt;(100000);
+ * Option&lt;Quote&gt; quote = quotes.get(symbol);
+ * Quote fresh = quotes.get(symbol, s -&gt; feed.quote(s)).or(Quote.STALE);
+ * </pre>
+ * 
+ * Eviction follows W-TinyLFU. New entries go into a small LRU window holding about 1% of the cache. An entry
+ * leaving the window only enters the main space if a frequency sketch says it has been used more often than
+ * the entry it would evict, so a burst of one-off keys cannot flush out popular ones. The main space is a
+ * segmented LRU: entries start in a probation segment and move to a protected segment, about 80% of the main
+ * space, when they are used again.
+ * 
+ * Reads take no lock. A hit is recorded in one of several striped ring buffers, chosen by thread, and the
+ * buffers are replayed against the policy in batches by whichever thread finds one full and the policy lock
+ * free. When a buffer is full and the lock is busy the access is dropped; the policy only needs a sample.
+ * Writes take the policy lock. Each entry holds its Some, so a hit does not allocate.
+ * 
+ * @param <K>
+ * @param <V>
+ */
+public final class OptionCache<K, V> {
+
+    private static final int WINDOW = 0;
+
+    private static final int PROBATION = 1;
+
+    private static final int PROTECTED = 2;
+
+    private static final int REMOVED = 3;
+
+    /**
+     * Slots per read buffer. A power of two.
+     */
+    static final int BUFFER_SIZE = 16;
+
+    private static final class Node<K, V> {
+
+        final K key_;
+
+        volatile Option<V> option_;
+
+        /**
+         * The segment the node is in. Guarded by the policy lock, except that REMOVED is also read without it.
+         */
+        volatile int queue_;
+
+        Node<K, V> prev_;
+
+        Node<K, V> next_;
+
+        Node(K key, Option<V> option) {
+            this.key_ = key;
+            this.option_ = option;
+        }
+    }
+
+    /**
+     * A doubly linked list of nodes from least to most recently used, around a sentinel. Guarded by the
+     * policy lock.
+     */
+    private static final class AccessOrder<K, V> {
+
+        final Node<K, V> sentinel_ = new Node<K, V>(null, null);
+
+        int size_;
+
+        AccessOrder() {
+            sentinel_.prev_ = sentinel_;
+            sentinel_.next_ = sentinel_;
+        }
+
+        Node<K, V> first() {
+            return sentinel_.next_ == sentinel_ ? null : sentinel_.next_;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev_ = sentinel_.prev_;
+            node.next_ = sentinel_;
+            sentinel_.prev_.next_ = node;
+            sentinel_.prev_ = node;
+            size_++;
+        }
+
+        void remove(Node<K, V> node) {
+            node.prev_.next_ = node.next_;
+            node.next_.prev_ = node.prev_;
+            node.prev_ = null;
+            node.next_ = null;
+            size_--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            remove(node);
+            addLast(node);
+        }
+    }
+
+    /**
+     * A lossy multi-producer ring buffer of accessed nodes, drained under the policy lock.
+     */
+    private static final class ReadBuffer<K, V> {
+
+        final AtomicReferenceArray<Node<K, V>> slots_ = new AtomicReferenceArray<Node<K, V>>(BUFFER_SIZE);
+
+        final AtomicLong tail_ = new AtomicLong();
+
+        /**
+         * Written only under the policy lock.
+         */
+        volatile long head_;
+
+        /**
+         * @return false if the buffer is full.
+         */
+        boolean offer(Node<K, V> node) {
+            long tail = tail_.get();
+            if (tail - head_ >= BUFFER_SIZE) {
+                return false;
+            }
+            if (tail_.compareAndSet(tail, tail + 1)) {
+                slots_.lazySet((int) tail & (BUFFER_SIZE - 1), node);
+            }
+            return tail + 1 - head_ < BUFFER_SIZE;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Node<K, V>> data_;
+
+    private final ReadBuffer<K, V>[] buffers_;
+
+    private final ReentrantLock lock_ = new ReentrantLock();
+
+    private final FrequencySketch sketch_;
+
+    private final AccessOrder<K, V> window_ = new AccessOrder<K, V>();
+
+    private final AccessOrder<K, V> probation_ = new AccessOrder<K, V>();
+
+    private final AccessOrder<K, V> protected_ = new AccessOrder<K, V>();
+
+    private final int maximumSize_;
+
+    private final int windowMaximum_;
+
+    private final int mainMaximum_;
+
+    private final int protectedMaximum_;
+
+    private final LongAdder hits_ = new LongAdder();
+
+    private final LongAdder misses_ = new LongAdder();
+
+    /**
+     * @param maximumSize
+     *            the maximum number of entries held.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public OptionCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize_ = maximumSize;
+        this.windowMaximum_ = Math.max(1, maximumSize / 100);
+        this.mainMaximum_ = maximumSize - windowMaximum_;
+        this.protectedMaximum_ = (int) (mainMaximum_ * 80L / 100);
+        this.data_ = new ConcurrentHashMap<K, Node<K, V>>(Math.min(maximumSize, 1 << 16));
+        this.sketch_ = new FrequencySketch(maximumSize);
+        int stripes = Integer.highestOneBit(Math.max(1, 4 * Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        this.buffers_ = new ReadBuffer[Math.min(stripes, 64)];
+        for (int i = 0; i < buffers_.length; i++) {
+            buffers_[i] = new ReadBuffer<K, V>();
+        }
+    }
+
+    /**
+     * @param key
+     * @return the cached value for key, or None.
+     */
+    public Option<V> get(K key) {
+        Node<K, V> node = data_.get(key);
+        if (null == node) {
+            misses_.increment();
+            return Option.None();
+        }
+        hits_.increment();
+        afterRead(node);
+        return node.option_;
+    }
+
+    /**
+     * Returns the cached value for key, or loads it with loader on a miss and caches it if it is Some.
+     * Concurrent misses on the same key may each run loader.
+     * 
+     * @param key
+     * @param loader
+     *            must not return null.
+     * @return
+     */
+    public Option<V> get(K key, Function<? super K, ? extends Option<? extends V>> loader) {
+        Option<V> option = get(key);
+        if (option.isSome()) {
+            return option;
+        }
+        @SuppressWarnings("unchecked")
+        Option<V> loaded = (Option<V>) loader.apply(key);
+        if (loaded.isSome()) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Cache value for key, replacing any cached value.
+     * 
+     * @param key
+     * @param value
+     */
+    public void put(K key, V value) {
+        put(key, Option.<V, V> Some(value));
+    }
+
+    private void put(K key, Option<V> option) {
+        Option.checkNotNull(key);
+        lock_.lock();
+        try {
+            drainBuffers();
+            sketch_.increment(key);
+            Node<K, V> node = data_.get(key);
+            if (null != node) {
+                node.option_ = option;
+                onAccess(node);
+                return;
+            }
+            node = new Node<K, V>(key, option);
+            node.queue_ = WINDOW;
+            data_.put(key, node);
+            window_.addLast(node);
+            evict();
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    /**
+     * Discard the entry for key, if any.
+     * 
+     * @param key
+     */
+    public void invalidate(K key) {
+        lock_.lock();
+        try {
+            Node<K, V> node = data_.get(key);
+            if (null != node) {
+                remove(node);
+            }
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    /**
+     * @return the number of entries held.
+     */
+    public int size() {
+        return data_.size();
+    }
+
+    /**
+     * @return the number of lookups that found a value.
+     */
+    public long hitCount() {
+        return hits_.sum();
+    }
+
+    /**
+     * @return the number of lookups that did not.
+     */
+    public long missCount() {
+        return misses_.sum();
+    }
+
+    /**
+     * Replay the buffered reads against the eviction policy now instead of waiting for a buffer to fill.
+     */
+    public void cleanUp() {
+        lock_.lock();
+        try {
+            drainBuffers();
+        } finally {
+            lock_.unlock();
+        }
+    }
+
+    private void afterRead(Node<K, V> node) {
+        ReadBuffer<K, V> buffer = buffers_[(int) Thread.currentThread().getId() & (buffers_.length - 1)];
+        if (!buffer.offer(node) && lock_.tryLock()) {
+            try {
+                drainBuffers();
+            } finally {
+                lock_.unlock();
+            }
+        }
+    }
+
+    private void drainBuffers() {
+        for (ReadBuffer<K, V> buffer : buffers_) {
+            long head = buffer.head_;
+            long tail = buffer.tail_.get();
+            for (; head < tail; head++) {
+                int index = (int) head & (BUFFER_SIZE - 1);
+                Node<K, V> node = buffer.slots_.get(index);
+                if (null == node) {
+                    // Claimed but not yet written; pick it up on the next drain.
+                    break;
+                }
+                buffer.slots_.lazySet(index, null);
+                sketch_.increment(node.key_);
+                onAccess(node);
+            }
+            buffer.head_ = head;
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.queue_) {
+        case WINDOW:
+            window_.moveToLast(node);
+            break;
+        case PROBATION:
+            probation_.remove(node);
+            node.queue_ = PROTECTED;
+            protected_.addLast(node);
+            while (protected_.size_ > protectedMaximum_) {
+                Node<K, V> demoted = protected_.first();
+                protected_.remove(demoted);
+                demoted.queue_ = PROBATION;
+                probation_.addLast(demoted);
+            }
+            break;
+        case PROTECTED:
+            protected_.moveToLast(node);
+            break;
+        default:
+            // Removed after the read was buffered.
+        }
+    }
+
+    /**
+     * Move entries over the window's share into the main space, admitting each one only if it is used more
+     * often than the main space's eviction victim.
+     */
+    private void evict() {
+        while (window_.size_ > windowMaximum_) {
+            Node<K, V> candidate = window_.first();
+            window_.remove(candidate);
+            if (probation_.size_ + protected_.size_ < mainMaximum_) {
+                candidate.queue_ = PROBATION;
+                probation_.addLast(candidate);
+                continue;
+            }
+            Node<K, V> victim = null != probation_.first() ? probation_.first() : protected_.first();
+            if (null != victim && sketch_.frequency(candidate.key_) > sketch_.frequency(victim.key_)) {
+                remove(victim);
+                candidate.queue_ = PROBATION;
+                probation_.addLast(candidate);
+            } else {
+                candidate.queue_ = REMOVED;
+                data_.remove(candidate.key_, candidate);
+            }
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        switch (node.queue_) {
+        case WINDOW:
+            window_.remove(node);
+            break;
+        case PROBATION:
+            probation_.remove(node);
+            break;
+        case PROTECTED:
+            protected_.remove(node);
+            break;
+        default:
+            return;
+        }
+        node.queue_ = REMOVED;
+        data_.remove(node.key_, node);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "OptionCache(size=" + size() + ", maximumSize=" + maximumSize_ + ")";
+    }
+}
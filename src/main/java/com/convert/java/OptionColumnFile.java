@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes optional primitive columns in a file that can be memory-mapped and used in place.
+ * 
+ * The layout is little-endian and 8 byte aligned throughout:
+ * 
+ * <pre>
+ * offset 0   magic "OPTCOL01"
+ * offset 8   int version, currently 1
+ * offset 12  int value type, 1 for long and 2 for double
+ * offset 16  long number of rows
+ * offset 24  reserved, zero up to offset 64
+ * offset 64  presence bitmap, one 64 bit word per 64 rows, bit i set when row i is some value
+ * then       values, 8 bytes per row, zero for None rows
+ * </pre>
+ * 
+ * Opening a file maps it rather than reading it, so it takes the same time whatever the size of the column;
+ * pages are faulted in as rows are touched. Mapped columns are read-only and are tied to an
+ * {@link OffHeapArena}.
+ */
+public final class OptionColumnFile {
+
+    static final long MAGIC = 0x3130_4C4F_4354_504FL;
+
+    static final int VERSION = 1;
+
+    static final int TYPE_LONG = 1;
+
+    static final int TYPE_DOUBLE = 2;
+
+    static final int HEADER_SIZE = 64;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private OptionColumnFile() {
+    }
+
+    /**
+     * Write array to file, replacing any existing content.
+     * 
+     * @param file
+     * @param array
+     * @throws IOException
+     */
+    public static void write(Path file, OptionLongArray array) throws IOException {
+        write(file, TYPE_LONG, array.values_, null, array.present_);
+    }
+
+    /**
+     * Write array to file, replacing any existing content.
+     * 
+     * @param file
+     * @param array
+     * @throws IOException
+     */
+    public static void write(Path file, OptionDoubleArray array) throws IOException {
+        write(file, TYPE_DOUBLE, null, array.values_, array.present_);
+    }
+
+    /**
+     * Map a column of longs written by {@link #write(Path, OptionLongArray)}. The mapping stays valid until
+     * arena is closed.
+     * The column is read-only: its set, clear and copyFrom methods throw UnsupportedOperationException.
+     * 
+     * @param arena
+     * @param file
+     * @return
+     * @throws IOException
+     *             if the file is not an option column of longs.
+     */
+    public static OffHeapOptionLongArray mapLongArray(OffHeapArena arena, Path file) throws IOException {
+        return new OffHeapOptionLongArray(arena.register(map(file, TYPE_LONG)));
+    }
+
+    /**
+     * Map a column of doubles written by {@link #write(Path, OptionDoubleArray)}. The mapping stays valid
+     * until arena is closed.
+     * The column is read-only: its set, clear and copyFrom methods throw UnsupportedOperationException.
+     * 
+     * @param arena
+     * @param file
+     * @return
+     * @throws IOException
+     *             if the file is not an option column of doubles.
+     */
+    public static OffHeapOptionDoubleArray mapDoubleArray(OffHeapArena arena, Path file) throws IOException {
+        return new OffHeapOptionDoubleArray(arena.register(map(file, TYPE_DOUBLE)));
+    }
+
+    private static OffHeapColumn map(Path file, int type) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Not an option column file: " + file);
+                }
+            }
+            if (header.getLong(0) != MAGIC) {
+                throw new IOException("Not an option column file: " + file);
+            }
+            if (header.getInt(8) != VERSION) {
+                throw new IOException("Unsupported option column version " + header.getInt(8) + ": " + file);
+            }
+            if (header.getInt(12) != type) {
+                throw new IOException("Unexpected option column type " + header.getInt(12) + ": " + file);
+            }
+            long rows = header.getLong(16);
+            if (rows < 0 || rows > Integer.MAX_VALUE) {
+                throw new IOException("Invalid option column length " + rows + ": " + file);
+            }
+            int length = (int) rows;
+            long bitmapSize = (long) Bits.words(length) << 3;
+            long valuesOffset = HEADER_SIZE + bitmapSize;
+            if (channel.size() < valuesOffset + ((long) length << 3)) {
+                throw new IOException("Truncated option column file: " + file);
+            }
+
+            ByteBuffer present = channel.map(MapMode.READ_ONLY, HEADER_SIZE, bitmapSize)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            int chunks = OffHeapColumn.chunks(length);
+            ByteBuffer[] values = new ByteBuffer[chunks];
+            for (int c = 0; c < chunks; c++) {
+                long first = (long) c << OffHeapColumn.CHUNK_SHIFT;
+                long slots = Math.min(length - first, 1L << OffHeapColumn.CHUNK_SHIFT);
+                values[c] = channel.map(MapMode.READ_ONLY, valuesOffset + (first << 3), slots << 3)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new OffHeapColumn(length, values, present);
+        } finally {
+            // the mappings stay valid once the channel is closed.
+            channel.close();
+        }
+    }
+
+    private static void write(Path file, int type, long[] longs, double[] doubles, long[] present)
+            throws IOException {
+        int length = null != longs ? longs.length : doubles.length;
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putLong(MAGIC).putInt(VERSION).putInt(type).putLong(length);
+            while (buffer.position() < HEADER_SIZE) {
+                buffer.put((byte) 0);
+            }
+            for (long word : present) {
+                buffer = flushIfFull(channel, buffer);
+                buffer.putLong(word);
+            }
+            for (int i = 0; i < length; i++) {
+                buffer = flushIfFull(channel, buffer);
+                if (null != longs) {
+                    buffer.putLong(longs[i]);
+                } else {
+                    buffer.putLong(Double.doubleToRawLongBits(doubles[i]));
+                }
+            }
+            buffer.flip();
+            writeFully(channel, buffer);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static ByteBuffer flushIfFull(FileChannel channel, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 8) {
+            buffer.flip();
+            writeFully(channel, buffer);
+            buffer.clear();
+        }
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+/**
+ * An optional primitive double. Instances are either Some value or None.
+ * 
+ * Unlike Option<Double> the value is held unboxed, so Some costs a single object and None is a shared
+ * instance.
+ */
+public final class OptionDouble {
+
+    private static final OptionDouble NONE = new OptionDouble(false, 0.0d);
+
+    private final boolean isSome_;
+
+    private final double value_;
+
+    private OptionDouble(boolean isSome, double value) {
+        this.isSome_ = isSome;
+        this.value_ = value;
+    }
+
+    /**
+     * An OptionDouble factory which creates Some(value).
+     * 
+     * @param value
+     * @return
+     */
+    public static OptionDouble Some(double value) {
+        return new OptionDouble(true, value);
+    }
+
+    /**
+     * An OptionDouble factory which returns the None instance.
+     * 
+     * @return
+     */
+    public static OptionDouble None() {
+        return NONE;
+    }
+
+    /**
+     * Return None if value is null and Some otherwise.
+     * 
+     * @param value
+     * @return
+     */
+    public static OptionDouble Option(Double value) {
+        if (null == value) {
+            return NONE;
+        }
+        return Some(value.doubleValue());
+    }
+
+    /**
+     * Convert a generic option to an OptionDouble.
+     * 
+     * @param option
+     * @return
+     */
+    public static OptionDouble fromOption(Option<? extends Double> option) {
+        if (option.isNone()) {
+            return NONE;
+        }
+        return Some(option.get().doubleValue());
+    }
+
+    /**
+     * Returns the option's value.
+     * 
+     * @return the option's value.
+     * @throws UnsupportedOperationException
+     *             if this is None.
+     */
+    public double getAsDouble() {
+        if (!isSome_) {
+            throw new UnsupportedOperationException("Can't call get on None");
+        }
+        return value_;
+    }
+
+    /**
+     * Check if the instance is some value.
+     * 
+     * @return true if the instance is some value, or false otherwise.
+     */
+    public boolean isSome() {
+        return isSome_;
+    }
+
+    /**
+     * Return true if the instance is none.
+     * 
+     * @return true if the instance is none and false otherwise.
+     */
+    public boolean isNone() {
+        return !isSome_;
+    }
+
+    /**
+     * Returns the contained value if it is present; defaultValue otherwise.
+     * 
+     * @param defaultValue
+     * @return
+     */
+    public double or(double defaultValue) {
+        return isSome_ ? value_ : defaultValue;
+    }
+
+    /**
+     * Returns this instance if it is some value; otherValue otherwise.
+     * 
+     * @param otherValue
+     * @return
+     */
+    public OptionDouble or(OptionDouble otherValue) {
+        if (!isSome_) {
+            return Option.checkNotNull(otherValue);
+        }
+        return this;
+    }
+
+    /**
+     * Box this instance into a generic Option.
+     * 
+     * @return
+     */
+    public Option<Double> toOption() {
+        if (!isSome_) {
+            return Option.None();
+        }
+        return Option.Some(Double.valueOf(value_));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        if (!isSome_) {
+            return 31;
+        }
+        long bits = Double.doubleToLongBits(value_);
+        return 31 + (int) (bits ^ (bits >>> 32));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OptionDouble)) {
+            return false;
+        }
+        OptionDouble other = (OptionDouble) obj;
+        if (isSome_ != other.isSome_) {
+            return false;
+        }
+        return Double.doubleToLongBits(value_) == Double.doubleToLongBits(other.value_);
+    }
+
+    @Override
+    public String toString() {
+        return isSome_ ? "Some(" + value_ + ")" : "None";
+    }
+}
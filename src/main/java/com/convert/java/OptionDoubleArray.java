@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.Arrays;
+
+/**
+ * A fixed length array of optional primitive doubles stored column-wise: a dense double[] of values plus a
+ * presence bitmap. Reading a slot has the semantics of {@link OptionDouble} without allocating per element.
+ */
+public final class OptionDoubleArray {
+
+    final double[] values_;
+
+    final long[] present_;
+
+    /**
+     * Creates an array of length slots, all None.
+     * 
+     * @param length
+     */
+    public OptionDoubleArray(int length) {
+        this.values_ = new double[length];
+        this.present_ = new long[Bits.words(length)];
+    }
+
+    /**
+     * Creates an array holding the values of options.
+     * 
+     * @param options
+     * @return
+     */
+    public static OptionDoubleArray of(Option<? extends Double>[] options) {
+        OptionDoubleArray array = new OptionDoubleArray(options.length);
+        for (int i = 0; i < options.length; i++) {
+            if (options[i].isSome()) {
+                array.set(i, options[i].get().doubleValue());
+            }
+        }
+        return array;
+    }
+
+    /**
+     * @return the number of slots.
+     */
+    public int length() {
+        return values_.length;
+    }
+
+    /**
+     * Check if slot i is some value.
+     * 
+     * @param i
+     * @return
+     */
+    public boolean isSome(int i) {
+        Bits.checkIndex(i, values_.length);
+        return Bits.get(present_, i);
+    }
+
+    /**
+     * Check if slot i is none.
+     * 
+     * @param i
+     * @return
+     */
+    public boolean isNone(int i) {
+        return !isSome(i);
+    }
+
+    /**
+     * Returns the value of slot i.
+     * 
+     * @param i
+     * @return
+     * @throws UnsupportedOperationException
+     *             if the slot is None.
+     */
+    public double get(int i) {
+        if (!isSome(i)) {
+            throw new UnsupportedOperationException("Can't call get on None");
+        }
+        return values_[i];
+    }
+
+    /**
+     * Returns the value of slot i if it is present; defaultValue otherwise.
+     * 
+     * @param i
+     * @param defaultValue
+     * @return
+     */
+    public double or(int i, double defaultValue) {
+        return isSome(i) ? values_[i] : defaultValue;
+    }
+
+    /**
+     * Returns slot i as an OptionDouble.
+     * 
+     * @param i
+     * @return
+     */
+    public OptionDouble option(int i) {
+        return isSome(i) ? OptionDouble.Some(values_[i]) : OptionDouble.None();
+    }
+
+    /**
+     * Set slot i to some value.
+     * 
+     * @param i
+     * @param value
+     */
+    public void set(int i, double value) {
+        Bits.checkIndex(i, values_.length);
+        values_[i] = value;
+        Bits.set(present_, i);
+    }
+
+    /**
+     * Set slot i to the value of option, or None.
+     * 
+     * @param i
+     * @param option
+     */
+    public void set(int i, OptionDouble option) {
+        if (option.isSome()) {
+            set(i, option.getAsDouble());
+        } else {
+            clear(i);
+        }
+    }
+
+    /**
+     * Set slot i to None.
+     * 
+     * @param i
+     */
+    public void clear(int i) {
+        Bits.checkIndex(i, values_.length);
+        values_[i] = 0.0d;
+        Bits.clear(present_, i);
+    }
+
+    /**
+     * @return the number of slots holding some value.
+     */
+    public int count() {
+        return Bits.count(present_);
+    }
+
+    /**
+     * Returns the index of the first slot at or after from that holds some value, or -1 if there is none.
+     * 
+     * @param from
+     * @return
+     */
+    public int nextSome(int from) {
+        return Bits.next(present_, Math.max(from, 0), values_.length);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(values_) + Arrays.hashCode(present_);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OptionDoubleArray)) {
+            return false;
+        }
+        OptionDoubleArray other = (OptionDoubleArray) obj;
+        return Arrays.equals(present_, other.present_) && Arrays.equals(values_, other.values_);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < values_.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(Bits.get(present_, i) ? "Some(" + values_[i] + ")" : "None");
+        }
+        return sb.append(']').toString();
+    }
+}
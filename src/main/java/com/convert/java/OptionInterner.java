@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes Some instances by value equality, so that long lived structures holding many equal options
+ * share one Some, and one payload, instead of one each.
+ * 
+ * Entries are weak: once a canonical Some and its value are no longer referenced outside the interner they are
+ * collected. The table is split into independently locked stripes chosen by the value's hash, so concurrent
+ * interning of different values rarely contends.
+ * 
+ * @param <T>
+ */
+public final class OptionInterner<T> {
+
+    private final Map<T, WeakReference<Option<T>>>[] stripes_;
+
+    private final int mask_;
+
+    private final int shift_;
+
+    /**
+     * Creates an interner with four stripes per available processor.
+     */
+    public OptionInterner() {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an interner with at least the given number of stripes, rounded up to a power of two.
+     * 
+     * @param stripes
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public OptionInterner(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be positive: " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes_ = new Map[size];
+        for (int i = 0; i < size; i++) {
+            stripes_[i] = new WeakHashMap<T, WeakReference<Option<T>>>();
+        }
+        this.mask_ = size - 1;
+        this.shift_ = 32 - Integer.numberOfTrailingZeros(size);
+    }
+
+    /**
+     * Returns the canonical Some equal to option, or None if option is None.
+     * 
+     * @param option
+     * @return
+     */
+    public Option<T> intern(Option<T> option) {
+        if (option.isNone()) {
+            return option;
+        }
+        return intern(option.get(), option);
+    }
+
+    /**
+     * Returns the canonical Some holding a value equal to value. Only allocates the first time a value is
+     * seen.
+     * 
+     * @param value
+     * @return
+     */
+    public Option<T> Some(T value) {
+        Option.checkNotNull(value);
+        return intern(value, null);
+    }
+
+    /**
+     * @return the number of canonical instances currently held. Entries whose Some was collected may still be
+     *         counted until their stripe is next used.
+     */
+    public int size() {
+        int size = 0;
+        for (Map<T, WeakReference<Option<T>>> stripe : stripes_) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Option<T> intern(T value, Option<T> candidate) {
+        Map<T, WeakReference<Option<T>>> stripe = stripes_[stripe(value.hashCode())];
+        synchronized (stripe) {
+            WeakReference<Option<T>> ref = stripe.get(value);
+            Option<T> canonical = null == ref ? null : ref.get();
+            if (null == canonical) {
+                if (null != ref) {
+                    // the Some was collected but an equal key is still alive; key the new entry by its own value.
+                    stripe.remove(value);
+                }
+                canonical = null == candidate ? Option.<T, T> Some(value) : candidate;
+                stripe.put(canonical.get(), new WeakReference<Option<T>>(canonical));
+            }
+            return canonical;
+        }
+    }
+
+    /**
+     * Picks the stripe from the top bits of a multiplicative hash, leaving the low bits, which the stripe's
+     * WeakHashMap uses for its buckets, evenly spread within each stripe.
+     */
+    private int stripe(int h) {
+        return ((h * 0x9E3779B9) >>> shift_) & mask_;
+    }
+}
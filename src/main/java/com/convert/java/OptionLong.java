@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+/**
+ * An optional primitive long. Instances are either Some value or None.
+ * 
+ * Unlike Option<Long> the value is held unboxed, so Some costs a single object and None is a shared
+ * instance.
+ */
+public final class OptionLong {
+
+    private static final OptionLong NONE = new OptionLong(false, 0L);
+
+    private final boolean isSome_;
+
+    private final long value_;
+
+    private OptionLong(boolean isSome, long value) {
+        this.isSome_ = isSome;
+        this.value_ = value;
+    }
+
+    /**
+     * An OptionLong factory which creates Some(value).
+     * 
+     * @param value
+     * @return
+     */
+    public static OptionLong Some(long value) {
+        return new OptionLong(true, value);
+    }
+
+    /**
+     * An OptionLong factory which returns the None instance.
+     * 
+     * @return
+     */
+    public static OptionLong None() {
+        return NONE;
+    }
+
+    /**
+     * Return None if value is null and Some otherwise.
+     * 
+     * @param value
+     * @return
+     */
+    public static OptionLong Option(Long value) {
+        if (null == value) {
+            return NONE;
+        }
+        return Some(value.longValue());
+    }
+
+    /**
+     * Convert a generic option to an OptionLong.
+     * 
+     * @param option
+     * @return
+     */
+    public static OptionLong fromOption(Option<? extends Long> option) {
+        if (option.isNone()) {
+            return NONE;
+        }
+        return Some(option.get().longValue());
+    }
+
+    /**
+     * Returns the option's value.
+     * 
+     * @return the option's value.
+     * @throws UnsupportedOperationException
+     *             if this is None.
+     */
+    public long getAsLong() {
+        if (!isSome_) {
+            throw new UnsupportedOperationException("Can't call get on None");
+        }
+        return value_;
+    }
+
+    /**
+     * Check if the instance is some value.
+     * 
+     * @return true if the instance is some value, or false otherwise.
+     */
+    public boolean isSome() {
+        return isSome_;
+    }
+
+    /**
+     * Return true if the instance is none.
+     * 
+     * @return true if the instance is none and false otherwise.
+     */
+    public boolean isNone() {
+        return !isSome_;
+    }
+
+    /**
+     * Returns the contained value if it is present; defaultValue otherwise.
+     * 
+     * @param defaultValue
+     * @return
+     */
+    public long or(long defaultValue) {
+        return isSome_ ? value_ : defaultValue;
+    }
+
+    /**
+     * Returns this instance if it is some value; otherValue otherwise.
+     * 
+     * @param otherValue
+     * @return
+     */
+    public OptionLong or(OptionLong otherValue) {
+        if (!isSome_) {
+            return Option.checkNotNull(otherValue);
+        }
+        return this;
+    }
+
+    /**
+     * Box this instance into a generic Option.
+     * 
+     * @return
+     */
+    public Option<Long> toOption() {
+        if (!isSome_) {
+            return Option.None();
+        }
+        return Option.Some(Long.valueOf(value_));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        if (!isSome_) {
+            return 31;
+        }
+        return 31 + (int) (value_ ^ (value_ >>> 32));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OptionLong)) {
+            return false;
+        }
+        OptionLong other = (OptionLong) obj;
+        if (isSome_ != other.isSome_) {
+            return false;
+        }
+        return value_ == other.value_;
+    }
+
+    @Override
+    public String toString() {
+        return isSome_ ? "Some(" + value_ + ")" : "None";
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes a function returning options, caching None results as well as Some results.
+ * 
+ * <pre>
+ * OptionMemoizer&lt;String, User&gt; users = new OptionMemoizer&lt;String, User&gt;(directory::find, 10000, 10,
+ *         1, TimeUnit.MINUTES);
+ * Option&lt;User&gt; user = users.apply("ghais");
+ * </pre>
+ * 
+ * A lookup that finds nothing often costs as much as one that finds something, so caching only the hits
+ * leaves the misses to be recomputed on every call. Some and None entries expire after separate times to
+ * live, and the least recently used entry is evicted once the cache holds maximumSize entries.
+ * 
+ * The loader runs outside the lock, so a slow load does not block lookups of other keys, but concurrent calls
+ * for the same missing key may each run it.
+ * 
+ * @param <K>
+ * @param <V>
+ */
+public final class OptionMemoizer<K, V> implements Function<K, Option<V>> {
+
+    private static final class Entry<V> {
+
+        final Option<V> option_;
+
+        final long expiresAt_;
+
+        Entry(Option<V> option, long expiresAt) {
+            this.option_ = option;
+            this.expiresAt_ = expiresAt;
+        }
+    }
+
+    private final Function<? super K, ? extends Option<? extends V>> loader_;
+
+    private final long someTtl_;
+
+    private final long noneTtl_;
+
+    private final LongSupplier clock_;
+
+    /**
+     * In access order, guarded by itself.
+     */
+    private final LinkedHashMap<K, Entry<V>> entries_;
+
+    private final LongAdder hits_ = new LongAdder();
+
+    private final LongAdder negativeHits_ = new LongAdder();
+
+    private final LongAdder misses_ = new LongAdder();
+
+    /**
+     * @param loader
+     *            must not return null.
+     * @param maximumSize
+     *            the maximum number of entries held.
+     * @param someTtl
+     *            how long a Some result is kept. Zero disables caching of Some results.
+     * @param noneTtl
+     *            how long a None result is kept. Zero disables caching of None results.
+     * @param unit
+     *            the unit of someTtl and noneTtl.
+     */
+    public OptionMemoizer(Function<? super K, ? extends Option<? extends V>> loader, int maximumSize,
+            long someTtl, long noneTtl, TimeUnit unit) {
+        this(loader, maximumSize, someTtl, noneTtl, unit, System::nanoTime);
+    }
+
+    OptionMemoizer(Function<? super K, ? extends Option<? extends V>> loader, final int maximumSize,
+            long someTtl, long noneTtl, TimeUnit unit, LongSupplier clock) {
+        Option.checkNotNull(loader);
+        Option.checkNotNull(clock);
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (someTtl < 0 || noneTtl < 0) {
+            throw new IllegalArgumentException("Negative time to live: " + someTtl + ", " + noneTtl);
+        }
+        this.loader_ = loader;
+        this.someTtl_ = unit.toNanos(someTtl);
+        this.noneTtl_ = unit.toNanos(noneTtl);
+        this.clock_ = clock;
+        this.entries_ = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached option for key, loading it if it is absent or expired.
+     * 
+     * @param key
+     * @return
+     */
+    @Override
+    public Option<V> apply(K key) {
+        long now = clock_.getAsLong();
+        synchronized (entries_) {
+            Entry<V> entry = entries_.get(key);
+            if (null != entry) {
+                if (now - entry.expiresAt_ < 0) {
+                    (entry.option_.isSome() ? hits_ : negativeHits_).increment();
+                    return entry.option_;
+                }
+                entries_.remove(key);
+            }
+        }
+        misses_.increment();
+        @SuppressWarnings("unchecked")
+        Option<V> option = (Option<V>) loader_.apply(key);
+        Option.checkNotNull(option);
+        long ttl = option.isSome() ? someTtl_ : noneTtl_;
+        if (ttl > 0) {
+            Entry<V> entry = new Entry<V>(option, clock_.getAsLong() + ttl);
+            synchronized (entries_) {
+                entries_.put(key, entry);
+            }
+        }
+        return option;
+    }
+
+    /**
+     * Discard the entry for key, if any.
+     * 
+     * @param key
+     */
+    public void invalidate(K key) {
+        synchronized (entries_) {
+            entries_.remove(key);
+        }
+    }
+
+    /**
+     * Discard every entry.
+     */
+    public void invalidateAll() {
+        synchronized (entries_) {
+            entries_.clear();
+        }
+    }
+
+    /**
+     * @return the number of entries held, including expired entries that have not been looked up since.
+     */
+    public int size() {
+        synchronized (entries_) {
+            return entries_.size();
+        }
+    }
+
+    /**
+     * @return the number of calls answered with a cached Some.
+     */
+    public long hitCount() {
+        return hits_.sum();
+    }
+
+    /**
+     * @return the number of calls answered with a cached None.
+     */
+    public long negativeHitCount() {
+        return negativeHits_.sum();
+    }
+
+    /**
+     * @return the number of calls that ran the loader.
+     */
+    public long missCount() {
+        return misses_.sum();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A chain of map, filter and flatMap steps composed ahead of time and applied to an Option in one pass.
+ * 
+ * <pre>
+ * static final OptionPipeline&lt;String, Integer&gt; PARSE = OptionPipeline.&lt;String&gt; identity()
+ *         .map(String::trim).filter(s -&gt; !s.isEmpty()).map(Integer::valueOf);
+ * 
+ * Option&lt;Integer&gt; port = PARSE.apply(config.get("port"));
+ * int portOrDefault = PARSE.applyOr(config.get("port"), 8080);
+ * </pre>
+ * 
+ * Intermediate values are passed from step to step unwrapped, so applying a pipeline creates at most the one
+ * Some it returns, and none at all through applyOr and applyOrNull. Steps have the semantics of the
+ * corresponding Option methods. Pipelines are immutable; build them once and share them.
+ * 
+ * @param <T>
+ *            the type of the input value.
+ * @param <R>
+ *            the type of the output value.
+ */
+public final class OptionPipeline<T, R> {
+
+    private static final OptionPipeline<?, ?> IDENTITY = new OptionPipeline<Object, Object>(Function.identity());
+
+    /**
+     * Maps an input value to the output value, or to null for None.
+     */
+    private final Function<? super T, ? extends R> step_;
+
+    private OptionPipeline(Function<? super T, ? extends R> step) {
+        this.step_ = step;
+    }
+
+    /**
+     * @return the pipeline with no steps.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> OptionPipeline<T, T> identity() {
+        return (OptionPipeline<T, T>) IDENTITY;
+    }
+
+    /**
+     * Add a step like {@link Option#map(Function)}: a null result gives None.
+     * 
+     * @param f
+     * @return
+     */
+    public <V> OptionPipeline<T, V> map(final Function<? super R, ? extends V> f) {
+        Option.checkNotNull(f);
+        final Function<? super T, ? extends R> step = step_;
+        return new OptionPipeline<T, V>(t -> {
+            R r = step.apply(t);
+            return null == r ? null : f.apply(r);
+        });
+    }
+
+    /**
+     * Add a step like {@link Option#filter(Predicate)}.
+     * 
+     * @param p
+     * @return
+     */
+    public OptionPipeline<T, R> filter(final Predicate<? super R> p) {
+        Option.checkNotNull(p);
+        final Function<? super T, ? extends R> step = step_;
+        return new OptionPipeline<T, R>(t -> {
+            R r = step.apply(t);
+            return null == r || !p.test(r) ? null : r;
+        });
+    }
+
+    /**
+     * Add a step like {@link Option#flatMap(Function)}.
+     * 
+     * @param f
+     *            must not return null.
+     * @return
+     */
+    public <V> OptionPipeline<T, V> flatMap(final Function<? super R, ? extends Option<V>> f) {
+        Option.checkNotNull(f);
+        final Function<? super T, ? extends R> step = step_;
+        return new OptionPipeline<T, V>(t -> {
+            R r = step.apply(t);
+            return null == r ? null : Option.checkNotNull(f.apply(r)).orNull();
+        });
+    }
+
+    /**
+     * Run the pipeline over option.
+     * 
+     * @param option
+     * @return the result, which is the only Some created.
+     */
+    public Option<R> apply(Option<? extends T> option) {
+        return Option.Option(applyOrNull(option));
+    }
+
+    /**
+     * Run the pipeline over option and return the result if it is some value; defaultValue otherwise.
+     * 
+     * @param option
+     * @param defaultValue
+     * @return
+     */
+    public R applyOr(Option<? extends T> option, R defaultValue) {
+        R r = applyOrNull(option);
+        return null == r ? Option.checkNotNull(defaultValue) : r;
+    }
+
+    /**
+     * Run the pipeline over option and return the result if it is some value; null otherwise.
+     * 
+     * @param option
+     * @return
+     */
+    public R applyOrNull(Option<? extends T> option) {
+        if (option.isNone()) {
+            return null;
+        }
+        return step_.apply(option.get());
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Static utilities over collections of options.
+ */
+public final class Options {
+
+    /**
+     * Ranges of at most this many options are reduced sequentially by parallelReduce.
+     */
+    public static final int DEFAULT_THRESHOLD = 4096;
+
+    private Options() {
+    }
+
+    /**
+     * Combine the values of options with combiner, left to right, treating None as the empty element. The
+     * result is None if every option is None.
+     * 
+     * @param options
+     * @param combiner
+     *            must not return null.
+     * @return
+     */
+    public static <T> Option<T> reduce(List<? extends Option<? extends T>> options, BinaryOperator<T> combiner) {
+        return Option.Option(reduce(options, 0, options.size(), Option.checkNotNull(combiner)));
+    }
+
+    /**
+     * Like {@link #reduce(List, BinaryOperator)} but splits options into ranges reduced on the common
+     * ForkJoinPool. combiner must be associative for the result to match the sequential reduction.
+     * 
+     * @param options
+     *            should support fast random access.
+     * @param combiner
+     * @return
+     */
+    public static <T> Option<T> parallelReduce(List<? extends Option<? extends T>> options,
+            BinaryOperator<T> combiner) {
+        return parallelReduce(options, combiner, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Like {@link #reduce(List, BinaryOperator)} but splits options into ranges reduced on pool. Ranges of at
+     * most threshold options are reduced sequentially. combiner must be associative for the result to match
+     * the sequential reduction.
+     * 
+     * @param options
+     *            should support fast random access.
+     * @param combiner
+     * @param pool
+     * @param threshold
+     * @return
+     */
+    public static <T> Option<T> parallelReduce(List<? extends Option<? extends T>> options,
+            BinaryOperator<T> combiner, ForkJoinPool pool, int threshold) {
+        Option.checkNotNull(combiner);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        if (options.size() <= threshold) {
+            return reduce(options, combiner);
+        }
+        return Option.Option(pool.invoke(new ReduceTask<T>(options, 0, options.size(), combiner, threshold)));
+    }
+
+    /**
+     * Turn a list of options into an option of a list: the values of options if they are all some value, or
+     * None as soon as one of them is None.
+     * 
+     * @param options
+     * @return
+     */
+    public static <T> Option<List<T>> sequence(List<? extends Option<? extends T>> options) {
+        List<T> values = new ArrayList<T>(options.size());
+        for (Option<? extends T> option : options) {
+            if (option.isNone()) {
+                return Option.None();
+            }
+            values.add(option.get());
+        }
+        return Option.<List<T>, List<T>> Some(values);
+    }
+
+    /**
+     * Apply f to every element of values and collect the results, stopping at the first None. Equivalent to,
+     * but cheaper than, sequencing the mapped list.
+     * 
+     * @param values
+     * @param f
+     *            must not return null.
+     * @return
+     */
+    public static <A, B> Option<List<B>> traverse(List<? extends A> values,
+            Function<? super A, ? extends Option<? extends B>> f) {
+        Option.checkNotNull(f);
+        List<B> results = new ArrayList<B>(values.size());
+        for (A value : values) {
+            Option<? extends B> result = Option.checkNotNull(f.apply(value));
+            if (result.isNone()) {
+                return Option.None();
+            }
+            results.add(result.get());
+        }
+        return Option.<List<B>, List<B>> Some(results);
+    }
+
+    /**
+     * Like {@link #traverse(List, Function)} but applies f to each element in its own task on the common
+     * ForkJoinPool. Meant for expensive functions.
+     * 
+     * @param values
+     *            should support fast random access.
+     * @param f
+     * @return
+     */
+    public static <A, B> Option<List<B>> parallelTraverse(List<? extends A> values,
+            Function<? super A, ? extends Option<? extends B>> f) {
+        return parallelTraverse(values, f, ForkJoinPool.commonPool(), 1);
+    }
+
+    /**
+     * Like {@link #traverse(List, Function)} but splits values into ranges mapped on pool. Ranges of at most
+     * threshold elements are mapped sequentially. Once f returns None for any element, no task calls f again;
+     * calls already running are left to finish and their results are discarded.
+     * 
+     * @param values
+     *            should support fast random access.
+     * @param f
+     * @param pool
+     * @param threshold
+     * @return
+     */
+    public static <A, B> Option<List<B>> parallelTraverse(List<? extends A> values,
+            Function<? super A, ? extends Option<? extends B>> f, ForkJoinPool pool, int threshold) {
+        Option.checkNotNull(f);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        Object[] results = new Object[values.size()];
+        AtomicBoolean none = new AtomicBoolean();
+        pool.invoke(new TraverseTask<A, B>(values, 0, values.size(), f, threshold, results, none));
+        if (none.get()) {
+            return Option.None();
+        }
+        // A copy rather than the fixed-size Arrays.asList view, to return an ArrayList as traverse does.
+        @SuppressWarnings("unchecked")
+        List<B> list = new ArrayList<B>((List<B>) Arrays.asList(results));
+        return Option.<List<B>, List<B>> Some(list);
+    }
+
+    /**
+     * Run every source on executor at once and return the value of the first source, in list order, that
+     * returns Some. A source is only chosen once every source before it has returned None, so the result is the
+     * same as trying them one after another with {@link Option#or(Option)}, but the slow ones overlap. Sources
+     * still running once the result is known are cancelled with an interrupt. An exception thrown by a source
+     * that is consulted is rethrown.
+     * 
+     * On Java 21 and later, executor can be Executors.newVirtualThreadPerTaskExecutor().
+     * 
+     * @param sources
+     *            in priority order. None of them may return null.
+     * @param executor
+     * @return None if every source returns None.
+     */
+    public static <T> Option<T> firstSome(List<? extends Supplier<? extends Option<? extends T>>> sources,
+            ExecutorService executor) {
+        return firstSome(sources, executor, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Like {@link #firstSome(List, ExecutorService)} but gives up and returns None when the timeout passes
+     * before the result is known, or when the calling thread is interrupted. In the second case the interrupt
+     * status is kept.
+     * 
+     * @param sources
+     *            in priority order. None of them may return null.
+     * @param executor
+     * @param timeout
+     * @param unit
+     * @return
+     */
+    public static <T> Option<T> firstSome(List<? extends Supplier<? extends Option<? extends T>>> sources,
+            ExecutorService executor, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + Math.min(unit.toNanos(timeout), Long.MAX_VALUE / 2);
+        List<Future<? extends Option<? extends T>>> futures = new ArrayList<Future<? extends Option<? extends T>>>(
+                sources.size());
+        try {
+            for (Supplier<? extends Option<? extends T>> source : sources) {
+                Option.checkNotNull(source);
+                futures.add(executor.submit(() -> Option.checkNotNull(source.get())));
+            }
+            for (Future<? extends Option<? extends T>> future : futures) {
+                Option<? extends T> option = future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (option.isSome()) {
+                    return Option.<T, T> Some(option.get());
+                }
+            }
+            return Option.None();
+        } catch (TimeoutException e) {
+            return Option.None();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Option.None();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * @return the reduction of options[from, to), or null if they are all None.
+     */
+    private static <T> T reduce(List<? extends Option<? extends T>> options, int from, int to,
+            BinaryOperator<T> combiner) {
+        T result = null;
+        for (int i = from; i < to; i++) {
+            Option<? extends T> option = options.get(i);
+            if (option.isSome()) {
+                result = combine(combiner, result, option.get());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Combine two partial results where null stands for None.
+     */
+    private static <T> T combine(BinaryOperator<T> combiner, T left, T right) {
+        if (null == left) {
+            return right;
+        }
+        if (null == right) {
+            return left;
+        }
+        return Option.checkNotNull(combiner.apply(left, right));
+    }
+
+    /**
+     * Reduces a range of a list, splitting it in halves until it is no longer than the threshold. Partial
+     * results are unwrapped values with null for None, so only the final result is wrapped in an Option.
+     */
+    private static final class ReduceTask<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends Option<? extends T>> options_;
+
+        private final int from_;
+
+        private final int to_;
+
+        private final BinaryOperator<T> combiner_;
+
+        private final int threshold_;
+
+        ReduceTask(List<? extends Option<? extends T>> options, int from, int to, BinaryOperator<T> combiner,
+                int threshold) {
+            this.options_ = options;
+            this.from_ = from;
+            this.to_ = to;
+            this.combiner_ = combiner;
+            this.threshold_ = threshold;
+        }
+
+        @Override
+        protected T compute() {
+            if (to_ - from_ <= threshold_) {
+                return reduce(options_, from_, to_, combiner_);
+            }
+            int mid = (from_ + to_) >>> 1;
+            ReduceTask<T> left = new ReduceTask<T>(options_, from_, mid, combiner_, threshold_);
+            left.fork();
+            T right = new ReduceTask<T>(options_, mid, to_, combiner_, threshold_).compute();
+            return combine(combiner_, left.join(), right);
+        }
+    }
+
+    /**
+     * Maps a range of a list into results, splitting it in halves until it is no longer than the threshold.
+     * Every task checks the shared none flag before calling f, so a None anywhere stops the remaining work.
+     */
+    private static final class TraverseTask<A, B> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends A> values_;
+
+        private final int from_;
+
+        private final int to_;
+
+        private final Function<? super A, ? extends Option<? extends B>> f_;
+
+        private final int threshold_;
+
+        private final Object[] results_;
+
+        private final AtomicBoolean none_;
+
+        TraverseTask(List<? extends A> values, int from, int to, Function<? super A, ? extends Option<? extends B>> f,
+                int threshold, Object[] results, AtomicBoolean none) {
+            this.values_ = values;
+            this.from_ = from;
+            this.to_ = to;
+            this.f_ = f;
+            this.threshold_ = threshold;
+            this.results_ = results;
+            this.none_ = none;
+        }
+
+        @Override
+        protected void compute() {
+            if (none_.get()) {
+                return;
+            }
+            if (to_ - from_ <= threshold_) {
+                for (int i = from_; i < to_ && !none_.get(); i++) {
+                    Option<? extends B> result = Option.checkNotNull(f_.apply(values_.get(i)));
+                    if (result.isNone()) {
+                        none_.set(true);
+                        return;
+                    }
+                    results_[i] = result.get();
+                }
+                return;
+            }
+            int mid = (from_ + to_) >>> 1;
+            invokeAll(new TraverseTask<A, B>(values_, from_, mid, f_, threshold_, results_, none_),
+                    new TraverseTask<A, B>(values_, mid, to_, f_, threshold_, results_, none_));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+/**
+ * Plain Java kernels, used when the Vector API ones are unavailable. They walk the presence bitmap a word at a
+ * time: words with no value are skipped, words where all 64 slots are present run a straight loop over the
+ * values, and the rest visit only their set bits.
+ */
+final class ScalarKernels implements AggregateKernels {
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#sum(long[])
+     */
+    @Override
+    public long sum(long[] values) {
+        long sum = 0L;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#sum(double[], long[])
+     */
+    @Override
+    public double sum(double[] values, long[] present) {
+        double sum = 0.0d;
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            int base = w << 6;
+            if (word == -1L) {
+                for (int i = base, end = base + 64; i < end; i++) {
+                    sum += values[i];
+                }
+            } else {
+                while (word != 0) {
+                    sum += values[base + Long.numberOfTrailingZeros(word)];
+                    word &= word - 1;
+                }
+            }
+        }
+        return sum;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#min(long[], long[])
+     */
+    @Override
+    public long min(long[] values, long[] present) {
+        long result = Long.MAX_VALUE;
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            int base = w << 6;
+            if (word == -1L) {
+                for (int i = base, end = base + 64; i < end; i++) {
+                    result = Math.min(result, values[i]);
+                }
+            } else {
+                while (word != 0) {
+                    result = Math.min(result, values[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#max(long[], long[])
+     */
+    @Override
+    public long max(long[] values, long[] present) {
+        long result = Long.MIN_VALUE;
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            int base = w << 6;
+            if (word == -1L) {
+                for (int i = base, end = base + 64; i < end; i++) {
+                    result = Math.max(result, values[i]);
+                }
+            } else {
+                while (word != 0) {
+                    result = Math.max(result, values[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#min(double[], long[])
+     */
+    @Override
+    public double min(double[] values, long[] present) {
+        double result = Double.POSITIVE_INFINITY;
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            int base = w << 6;
+            if (word == -1L) {
+                for (int i = base, end = base + 64; i < end; i++) {
+                    result = Math.min(result, values[i]);
+                }
+            } else {
+                while (word != 0) {
+                    result = Math.min(result, values[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#max(double[], long[])
+     */
+    @Override
+    public double max(double[] values, long[] present) {
+        double result = Double.NEGATIVE_INFINITY;
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            int base = w << 6;
+            if (word == -1L) {
+                for (int i = base, end = base + 64; i < end; i++) {
+                    result = Math.max(result, values[i]);
+                }
+            } else {
+                while (word != 0) {
+                    result = Math.max(result, values[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key: while a load for a key is running, other callers for that key
+ * wait for it and get its result instead of starting their own.
+ * 
+ * <pre>
+ * SingleFlight&lt;String, User&gt; users = new SingleFlight&lt;String, User&gt;(directory::find);
+ * Option&lt;User&gt; user = users.apply("ghais"); // one directory call however many threads ask at once
+ * </pre>
+ * 
+ * Some and None results, and exceptions, are all delivered to every caller that joined the load. A checked
+ * exception thrown by a loader that does not declare it reaches joined callers wrapped in a
+ * CompletionException. Nothing is remembered once the load completes; combine with {@link OptionMemoizer} or
+ * {@link OptionCache} for that.
+ * 
+ * The loader runs on the calling thread without any lock held: the in-flight table is only touched to
+ * register and unregister a load, never while loading. Waiting callers park on a CompletableFuture rather
+ * than a monitor, so virtual threads waiting for a load do not pin their carrier.
+ * 
+ * @param <K>
+ * @param <V>
+ */
+public final class SingleFlight<K, V> implements Function<K, Option<V>> {
+
+    private final Function<? super K, ? extends Option<? extends V>> loader_;
+
+    private final ConcurrentHashMap<K, CompletableFuture<Option<V>>> inFlight_ =
+            new ConcurrentHashMap<K, CompletableFuture<Option<V>>>();
+
+    private final LongAdder joined_ = new LongAdder();
+
+    /**
+     * @param loader
+     *            must not return null.
+     */
+    public SingleFlight(Function<? super K, ? extends Option<? extends V>> loader) {
+        this.loader_ = Option.checkNotNull(loader);
+    }
+
+    /**
+     * Load key, or wait for the load of key already in flight.
+     * 
+     * @param key
+     * @return
+     */
+    @Override
+    public Option<V> apply(K key) {
+        CompletableFuture<Option<V>> flight = new CompletableFuture<Option<V>>();
+        CompletableFuture<Option<V>> existing = inFlight_.putIfAbsent(key, flight);
+        if (null != existing) {
+            joined_.increment();
+            return await(existing);
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            Option<V> option = (Option<V>) loader_.apply(key);
+            Option.checkNotNull(option);
+            flight.complete(option);
+            return option;
+        } catch (Throwable e) {
+            // Throwable, not just unchecked exceptions: a loader can sneak a checked exception past the compiler,
+            // and joined callers must still be released.
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight_.remove(key, flight);
+        }
+    }
+
+    private static <V> Option<V> await(CompletableFuture<Option<V>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // A checked exception the loader threw without declaring it.
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of calls that joined a load already in flight instead of running the loader.
+     */
+    public long joinedCount() {
+        return joined_.sum();
+    }
+
+    /**
+     * @return the number of loads currently running.
+     */
+    public int inFlight() {
+        return inFlight_.size();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+/**
+ * Canonical Some instances for values that are commonly wrapped, in the spirit of Integer.valueOf: both
+ * booleans, every enum constant, and small Byte, Short, Integer, Long and Character values.
+ * 
+ * The range of cached numbers is -128 to 127 by default and can be changed with the system properties
+ * {@value #LOW_PROPERTY} and {@value #HIGH_PROPERTY}; a high below low disables caching of numbers. Characters
+ * are cached from max(low, 0). The properties are read once, when the cache is loaded. Values that are not
+ * integers are ignored, and the range is cut to at most {@value #MAXIMUM_SIZE} numbers from low so that a
+ * mistyped high cannot fill the heap when the class loads.
+ * 
+ * With the default range the cache holds 1152 Some instances, about 23KB on a 64 bit JVM with compressed
+ * oops.
+ */
+final class SomeCache {
+
+    static final String LOW_PROPERTY = "com.convert.java.Option.someCache.low";
+
+    static final String HIGH_PROPERTY = "com.convert.java.Option.someCache.high";
+
+    /**
+     * The most numbers of each type cached, whatever the properties say.
+     */
+    static final int MAXIMUM_SIZE = 1 << 16;
+
+    private static final int LOW = Integer.getInteger(LOW_PROPERTY, -128);
+
+    private static final int HIGH = clampHigh(LOW, Integer.getInteger(HIGH_PROPERTY, 127));
+
+    private static final Option<?> SOME_TRUE = new Option.Some<Boolean>(Boolean.TRUE);
+
+    private static final Option<?> SOME_FALSE = new Option.Some<Boolean>(Boolean.FALSE);
+
+    private static final Option<?>[] INTEGERS = new Option<?>[size(LOW, HIGH)];
+
+    private static final Option<?>[] LONGS = new Option<?>[size(LOW, HIGH)];
+
+    private static final Option<?>[] SHORTS = new Option<?>[size(Math.max(LOW, Short.MIN_VALUE),
+            Math.min(HIGH, Short.MAX_VALUE))];
+
+    private static final Option<?>[] BYTES = new Option<?>[size(Math.max(LOW, Byte.MIN_VALUE),
+            Math.min(HIGH, Byte.MAX_VALUE))];
+
+    private static final Option<?>[] CHARACTERS = new Option<?>[size(Math.max(LOW, 0),
+            Math.min(HIGH, Character.MAX_VALUE))];
+
+    private static final ClassValue<Option<?>[]> ENUMS = new ClassValue<Option<?>[]>() {
+
+        @Override
+        protected Option<?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Option<?>[] somes = new Option<?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                somes[i] = new Option.Some<Object>(constants[i]);
+            }
+            return somes;
+        }
+    };
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = new Option.Some<Integer>(Integer.valueOf(LOW + i));
+            LONGS[i] = new Option.Some<Long>(Long.valueOf(LOW + i));
+        }
+        int shortLow = Math.max(LOW, Short.MIN_VALUE);
+        for (int i = 0; i < SHORTS.length; i++) {
+            SHORTS[i] = new Option.Some<Short>(Short.valueOf((short) (shortLow + i)));
+        }
+        int byteLow = Math.max(LOW, Byte.MIN_VALUE);
+        for (int i = 0; i < BYTES.length; i++) {
+            BYTES[i] = new Option.Some<Byte>(Byte.valueOf((byte) (byteLow + i)));
+        }
+        int charLow = Math.max(LOW, 0);
+        for (int i = 0; i < CHARACTERS.length; i++) {
+            CHARACTERS[i] = new Option.Some<Character>(Character.valueOf((char) (charLow + i)));
+        }
+    }
+
+    private SomeCache() {
+    }
+
+    /**
+     * @param value
+     *            not null.
+     * @return the canonical Some holding a value equal to value, or null if value is not cached.
+     */
+    static Option<?> get(Object value) {
+        Class<?> type = value.getClass();
+        if (type == Integer.class) {
+            return lookup(INTEGERS, LOW, ((Integer) value).intValue());
+        }
+        if (type == Boolean.class) {
+            return ((Boolean) value).booleanValue() ? SOME_TRUE : SOME_FALSE;
+        }
+        if (type == Long.class) {
+            long l = ((Long) value).longValue();
+            if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+                return null;
+            }
+            return lookup(LONGS, LOW, (int) l);
+        }
+        if (value instanceof Enum) {
+            Enum<?> e = (Enum<?>) value;
+            return ENUMS.get(e.getDeclaringClass())[e.ordinal()];
+        }
+        if (type == Character.class) {
+            return lookup(CHARACTERS, Math.max(LOW, 0), ((Character) value).charValue());
+        }
+        if (type == Short.class) {
+            return lookup(SHORTS, Math.max(LOW, Short.MIN_VALUE), ((Short) value).shortValue());
+        }
+        if (type == Byte.class) {
+            return lookup(BYTES, Math.max(LOW, Byte.MIN_VALUE), ((Byte) value).byteValue());
+        }
+        return null;
+    }
+
+    private static Option<?> lookup(Option<?>[] cache, int low, int value) {
+        long i = (long) value - low;
+        if (i < 0 || i >= cache.length) {
+            return null;
+        }
+        return cache[(int) i];
+    }
+
+    /**
+     * @return high, lowered if needed so that low to high holds at most MAXIMUM_SIZE numbers.
+     */
+    static int clampHigh(int low, int high) {
+        return (int) Math.min(high, (long) low + MAXIMUM_SIZE - 1);
+    }
+
+    static int size(int low, int high) {
+        return high < low ? 0 : high - low + 1;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernels for {@link OptionAggregates}. Sums add the whole value array, since None slots hold zero.
+ * Minimum and maximum walk the presence bitmap a word at a time: a word covers 64 slots, a whole number of
+ * vectors for every species, so a full word runs plain loads, a mostly full word replaces the lanes of None
+ * slots with the identity before combining, a sparse word is read slot by slot and an empty word is skipped.
+ * 
+ * Compiled for Java 17 into the versioned part of the jar, and loaded by name from OptionAggregates, which
+ * falls back to {@link ScalarKernels} when this class or the jdk.incubator.vector module is missing.
+ */
+final class VectorKernels implements AggregateKernels {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final int LONG_LANES = LONGS.length();
+
+    private static final int DOUBLE_LANES = DOUBLES.length();
+
+    /**
+     * Lane i holds 1 &lt;&lt; i, to turn bitmap bits into a lane mask with an and and a compare. Both preferred
+     * species have the same shape and 64 bit lanes, so this serves the doubles too.
+     */
+    private static final LongVector LANE_BITS = laneBits(LONGS);
+
+    /**
+     * Words with fewer present slots than this are read slot by slot: blending several mostly empty vectors
+     * costs more than a handful of scalar loads.
+     */
+    private static final int SPARSE_WORD = 16;
+
+    private static LongVector laneBits(VectorSpecies<Long> species) {
+        long[] bits = new long[species.length()];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = 1L << i;
+        }
+        return LongVector.fromArray(species, bits, 0);
+    }
+
+    private static VectorMask<Long> longMask(long bits) {
+        return LongVector.broadcast(LONGS, bits).and(LANE_BITS).compare(VectorOperators.NE, 0L);
+    }
+
+    private static VectorMask<Double> doubleMask(long bits) {
+        // The lane bits read as doubles are zero or subnormal, so this compares without converting the mask,
+        // which JDK 17 does not compile to vector code.
+        return LongVector.broadcast(LONGS, bits).and(LANE_BITS).reinterpretAsDoubles()
+                .compare(VectorOperators.NE, 0.0d);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#sum(long[])
+     */
+    @Override
+    public long sum(long[] values) {
+        LongVector acc = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = LONGS.loopBound(values.length); i < bound; i += LONG_LANES) {
+            acc = acc.add(LongVector.fromArray(LONGS, values, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#sum(double[], long[])
+     */
+    @Override
+    public double sum(double[] values, long[] present) {
+        // None slots hold 0.0, and adding 0.0 changes no sum that starts from 0.0.
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLE_LANES) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#min(long[], long[])
+     */
+    @Override
+    public long min(long[] values, long[] present) {
+        return extreme(values, present, true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#max(long[], long[])
+     */
+    @Override
+    public long max(long[] values, long[] present) {
+        return extreme(values, present, false);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#min(double[], long[])
+     */
+    @Override
+    public double min(double[] values, long[] present) {
+        return extreme(values, present, true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.convert.java.AggregateKernels#max(double[], long[])
+     */
+    @Override
+    public double max(double[] values, long[] present) {
+        return extreme(values, present, false);
+    }
+
+    private static long extreme(long[] values, long[] present, boolean min) {
+        long identity = min ? Long.MAX_VALUE : Long.MIN_VALUE;
+        LongVector identities = LongVector.broadcast(LONGS, identity);
+        LongVector acc = identities;
+        long scalar = identity;
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            if (Long.bitCount(word) < SPARSE_WORD) {
+                for (; word != 0; word &= word - 1) {
+                    long v = values[base + Long.numberOfTrailingZeros(word)];
+                    scalar = min ? Math.min(scalar, v) : Math.max(scalar, v);
+                }
+                continue;
+            }
+            for (int j = 0; j < 64; j += LONG_LANES) {
+                LongVector v;
+                if (word == -1L) {
+                    v = LongVector.fromArray(LONGS, values, base + j);
+                } else {
+                    long bits = word >>> j;
+                    VectorMask<Long> mask = longMask(bits);
+                    if (base + j + LONG_LANES <= values.length) {
+                        v = identities.blend(LongVector.fromArray(LONGS, values, base + j), mask);
+                    } else {
+                        // The last vector of the array; lanes past its end are outside the mask and not read.
+                        v = identities.blend(LongVector.fromArray(LONGS, values, base + j, mask), mask);
+                    }
+                }
+                acc = min ? acc.min(v) : acc.max(v);
+            }
+        }
+        return min ? Math.min(scalar, acc.reduceLanes(VectorOperators.MIN))
+                : Math.max(scalar, acc.reduceLanes(VectorOperators.MAX));
+    }
+
+    private static double extreme(double[] values, long[] present, boolean min) {
+        double identity = min ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        DoubleVector identities = DoubleVector.broadcast(DOUBLES, identity);
+        DoubleVector acc = identities;
+        double scalar = identity;
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            if (Long.bitCount(word) < SPARSE_WORD) {
+                for (; word != 0; word &= word - 1) {
+                    double v = values[base + Long.numberOfTrailingZeros(word)];
+                    scalar = min ? Math.min(scalar, v) : Math.max(scalar, v);
+                }
+                continue;
+            }
+            for (int j = 0; j < 64; j += DOUBLE_LANES) {
+                DoubleVector v;
+                if (word == -1L) {
+                    v = DoubleVector.fromArray(DOUBLES, values, base + j);
+                } else {
+                    long bits = word >>> j;
+                    VectorMask<Double> mask = doubleMask(bits);
+                    if (base + j + DOUBLE_LANES <= values.length) {
+                        v = identities.blend(DoubleVector.fromArray(DOUBLES, values, base + j), mask);
+                    } else {
+                        v = identities.blend(DoubleVector.fromArray(DOUBLES, values, base + j, mask), mask);
+                    }
+                }
+                acc = min ? acc.min(v) : acc.max(v);
+            }
+        }
+        return min ? Math.min(scalar, acc.reduceLanes(VectorOperators.MIN))
+                : Math.max(scalar, acc.reduceLanes(VectorOperators.MAX));
+    }
+}
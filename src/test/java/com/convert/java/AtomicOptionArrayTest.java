@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+/**
+ * The class <code>AtomicOptionArrayTest</code> contains tests for the class
+ * <code>{@link AtomicOptionArray}</code>.
+ */
+public class AtomicOptionArrayTest {
+
+    @Test
+    public void testWriteOnce() {
+        for (boolean padded : new boolean[] { false, true }) {
+            AtomicOptionArray<String> array = new AtomicOptionArray<String>(3, padded);
+            assertEquals(3, array.length());
+            assertFalse(array.isSet(0));
+            assertTrue(array.set(0, "a"));
+            assertFalse(array.set(0, "b"));
+            assertFalse(array.setNone(0));
+            assertTrue(array.setNone(1));
+            assertFalse(array.set(1, Option.Some("c")));
+            assertTrue(array.set(2, Option.<String> None()));
+            assertTrue(array.isSet(0));
+            assertEquals(Option.Some("a"), array.getNow(0));
+            assertSame(Option.None(), array.getNow(1));
+            assertSame(Option.None(), array.getNow(2));
+        }
+    }
+
+    @Test
+    public void testGetNowUnset() {
+        assertSame(Option.None(), new AtomicOptionArray<String>(1).getNow(0));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSetNull() {
+        new AtomicOptionArray<String>(1).set(0, (String) null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        new AtomicOptionArray<String>(2, true).set(2, "a");
+    }
+
+    @Test
+    public void testGetWaitsForWriter() throws Exception {
+        final AtomicOptionArray<String> array = new AtomicOptionArray<String>(2);
+        Thread writer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                return;
+            }
+            array.set(1, "late");
+        });
+        writer.start();
+        assertEquals(Option.Some("late"), array.get(1));
+        writer.join();
+    }
+
+    @Test
+    public void testGetTimesOut() throws InterruptedException {
+        AtomicOptionArray<String> array = new AtomicOptionArray<String>(1);
+        try {
+            array.get(0, 20, TimeUnit.MILLISECONDS);
+            fail("slot 0 is never set");
+        } catch (TimeoutException e) {
+            // good.
+        }
+        array.setNone(0);
+        try {
+            assertSame(Option.None(), array.get(0, 0, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            fail("slot 0 is set");
+        }
+    }
+
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        final int length = 1000;
+        final AtomicOptionArray<Integer> array = new AtomicOptionArray<Integer>(length, true);
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            final int offset = t;
+            writers[t] = new Thread(() -> {
+                for (int i = offset; i < length; i += writers.length) {
+                    if (i % 3 == 0) {
+                        array.setNone(i);
+                    } else {
+                        array.set(i, i);
+                    }
+                }
+            });
+            writers[t].start();
+        }
+        for (int i = length - 1; i >= 0; i--) {
+            assertEquals(i % 3 == 0 ? Option.<Integer> None() : Option.Some(i), array.get(i));
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+    }
+
+    @Test
+    public void testSnapshot() {
+        AtomicOptionArray<String> array = new AtomicOptionArray<String>(3);
+        array.set(0, "a");
+        array.setNone(1);
+        OptionArray<String> snapshot = array.snapshot();
+        assertEquals(3, snapshot.length());
+        assertEquals("a", snapshot.get(0));
+        assertTrue(snapshot.isNone(1));
+        assertTrue(snapshot.isNone(2));
+        assertEquals("[Some(a), None, ?]", array.toString());
+    }
+}
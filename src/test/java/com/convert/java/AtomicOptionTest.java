@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * The class <code>AtomicOptionTest</code> contains tests for the class <code>{@link AtomicOption}</code>.
+ */
+public class AtomicOptionTest {
+
+    @Test
+    public void testInitialState() {
+        AtomicOption<String> none = new AtomicOption<String>();
+        assertTrue(none.isNone());
+        assertSame(Option.None(), none.toOption());
+        assertEquals("b", none.or("b"));
+        assertNull(none.orNull());
+
+        AtomicOption<String> some = new AtomicOption<String>(Option.Some("a"));
+        assertTrue(some.isSome());
+        assertEquals("a", some.get());
+        assertEquals(Option.Some("a"), some.toOption());
+        assertTrue(new AtomicOption<String>(Option.<String> None()).isNone());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetOnNone() {
+        new AtomicOption<String>().get();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOrNullDefaultOnNone() {
+        new AtomicOption<String>().or(null);
+    }
+
+    @Test
+    public void testOrNullDefaultOnSome() {
+        assertEquals("a", new AtomicOption<String>(Option.Some("a")).or(null));
+    }
+
+    @Test
+    public void testSetAndClear() {
+        AtomicOption<String> atomic = new AtomicOption<String>();
+        atomic.set("a");
+        assertEquals("a", atomic.get());
+        atomic.set((String) null);
+        assertTrue(atomic.isNone());
+        atomic.set(Option.Some("b"));
+        assertEquals("b", atomic.get());
+        atomic.set(Option.<String> None());
+        assertTrue(atomic.isNone());
+        atomic.set("c");
+        atomic.clear();
+        assertTrue(atomic.isNone());
+    }
+
+    @Test
+    public void testCompareAndSet() {
+        String a = "a";
+        AtomicOption<String> atomic = new AtomicOption<String>();
+        assertFalse(atomic.compareAndSet(a, "b"));
+        assertTrue(atomic.compareAndSet(null, a));
+        assertSame(a, atomic.get());
+        assertFalse(atomic.compareAndSet(null, "b"));
+        assertTrue(atomic.compareAndSet(a, null));
+        assertTrue(atomic.isNone());
+    }
+
+    @Test
+    public void testSetIfNone() {
+        AtomicOption<String> atomic = new AtomicOption<String>();
+        assertTrue(atomic.setIfNone("a"));
+        assertFalse(atomic.setIfNone("b"));
+        assertEquals("a", atomic.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSetIfNoneNull() {
+        new AtomicOption<String>().setIfNone(null);
+    }
+
+    @Test
+    public void testGetAndSet() {
+        AtomicOption<String> atomic = new AtomicOption<String>();
+        assertNull(atomic.getAndSet("a"));
+        assertEquals("a", atomic.getAndSet(null));
+        assertTrue(atomic.isNone());
+    }
+
+    @Test
+    public void testUpdateAndGet() {
+        AtomicOption<Integer> atomic = new AtomicOption<Integer>();
+        assertEquals(Integer.valueOf(1), atomic.updateAndGet(i -> null == i ? 1 : i + 1));
+        assertEquals(Integer.valueOf(2), atomic.updateAndGet(i -> null == i ? 1 : i + 1));
+        assertNull(atomic.updateAndGet(i -> null));
+        assertTrue(atomic.isNone());
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        final AtomicOption<Integer> counter = new AtomicOption<Integer>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    counter.updateAndGet(c -> null == c ? 1 : c + 1);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Integer.valueOf(40000), counter.get());
+    }
+
+    @Test
+    public void testToString() {
+        AtomicOption<String> atomic = new AtomicOption<String>();
+        assertEquals("AtomicOption(None)", atomic.toString());
+        atomic.set("a");
+        assertEquals("AtomicOption(Some(a))", atomic.toString());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * The class <code>LazyOptionTest</code> contains tests for the class <code>{@link LazyOption}</code>.
+ */
+public class LazyOptionTest {
+
+    @Test
+    public void testComputedOnFirstUseOnly() {
+        final AtomicInteger calls = new AtomicInteger();
+        LazyOption<String> lazy = new LazyOption<String>(() -> {
+            calls.incrementAndGet();
+            return Option.Some("a");
+        });
+        assertFalse(lazy.isComputed());
+        assertEquals(0, calls.get());
+        assertTrue(lazy.isSome());
+        assertFalse(lazy.isNone());
+        assertEquals("a", lazy.get());
+        assertEquals("a", lazy.or("b"));
+        assertEquals("a", lazy.orNull());
+        assertTrue(lazy.isComputed());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testNone() {
+        LazyOption<String> lazy = new LazyOption<String>(() -> Option.<String> None());
+        assertTrue(lazy.isNone());
+        assertSame(Option.None(), lazy.toOption());
+        assertEquals("b", lazy.or("b"));
+        assertEquals(null, lazy.orNull());
+        try {
+            lazy.get();
+            fail("get on None");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testRetriedAfterException() {
+        final AtomicInteger calls = new AtomicInteger();
+        LazyOption<Integer> lazy = new LazyOption<Integer>(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return Option.Some(2);
+        });
+        try {
+            lazy.get();
+            fail("the first computation throws");
+        } catch (IllegalStateException e) {
+            // good.
+        }
+        assertFalse(lazy.isComputed());
+        assertEquals(Integer.valueOf(2), lazy.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplierResult() {
+        new LazyOption<String>(() -> null).isSome();
+    }
+
+    @Test
+    public void testConcurrentReadersComputeOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyOption<Integer> lazy = new LazyOption<Integer>(() -> {
+            calls.incrementAndGet();
+            return Option.Some(42);
+        });
+        int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return lazy.get();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(Integer.valueOf(42), result.get());
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testToString() {
+        LazyOption<String> lazy = new LazyOption<String>(() -> Option.Some("a"));
+        assertEquals("LazyOption(?)", lazy.toString());
+        lazy.get();
+        assertEquals("LazyOption(Some(a))", lazy.toString());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>MonoOptionTest</code> contains tests for the class <code>{@link MonoOption}</code>.
+ */
+public class MonoOptionTest {
+
+    @Test
+    public void testSome() {
+        MonoOption<String> some = MonoOption.Some("value");
+        assertTrue(some.isSome());
+        assertFalse(some.isNone());
+        assertEquals("value", some.get());
+        assertEquals("value", some.or("default"));
+        assertEquals("value", some.orNull());
+        for (String x : some) {
+            assertEquals("value", x);
+        }
+    }
+
+    @Test
+    public void testNone() {
+        MonoOption<String> none = MonoOption.None();
+        assertTrue(none.isNone());
+        assertEquals("default", none.or("default"));
+        assertEquals("default", none.orElseGet(() -> "default"));
+        assertNull(none.orNull());
+        assertFalse(none.iterator().hasNext());
+        try {
+            none.get();
+            fail("Can't call get on an instance of None");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testOption() {
+        assertSame(MonoOption.None(), MonoOption.Option(null));
+        assertEquals(MonoOption.Some(1), MonoOption.Option(1));
+    }
+
+    @Test
+    public void testEqualityWithSomeAndNone() {
+        assertEquals(Option.Some("value"), MonoOption.Some("value"));
+        assertEquals(MonoOption.Some("value"), Option.Some("value"));
+        assertEquals(Option.Some("value").hashCode(), MonoOption.Some("value").hashCode());
+        assertEquals(Option.None(), MonoOption.None());
+        assertEquals(MonoOption.None(), Option.None());
+        assertEquals(Option.None().hashCode(), MonoOption.None().hashCode());
+        assertFalse(MonoOption.Some("value").equals(Option.None()));
+        assertFalse(MonoOption.None().equals(Option.Some("value")));
+    }
+
+    @Test
+    public void testOf() {
+        MonoOption<String> mono = MonoOption.Some("value");
+        assertSame(mono, MonoOption.of(mono));
+        assertEquals(mono, MonoOption.of(Option.Some("value")));
+        assertSame(MonoOption.None(), MonoOption.of(Option.<String> None()));
+    }
+
+    @Test
+    public void testOr() {
+        MonoOption<String> none = MonoOption.None();
+        MonoOption<String> other = MonoOption.Some("other");
+        assertSame(other, none.or(other));
+        assertEquals(Option.Some("x"), none.or(Option.Some("x")));
+        assertSame(other, other.or(MonoOption.Some("unused")));
+    }
+
+    @Test
+    public void testFolds() {
+        MonoOption<String> some = MonoOption.Some("some");
+        MonoOption<String> none = MonoOption.None();
+        assertEquals("SOME", some.fold(() -> "none", String::toUpperCase));
+        assertEquals("none", none.fold(() -> "none", String::toUpperCase));
+        assertEquals(4, some.foldToInt(0, String::length));
+        assertEquals(0L, none.foldToLong(0L, String::length));
+        assertEquals(4.0d, some.foldToDouble(0.0d, String::length), 0.0d);
+        assertFalse(none.foldToBoolean(false, s -> true));
+    }
+
+    @Test
+    public void testMapFilterFlatMap() {
+        MonoOption<String> some = MonoOption.Some("some");
+        assertEquals(MonoOption.Some(4), some.map(String::length));
+        assertSame(some, some.filter(s -> true));
+        assertTrue(some.filter(s -> false).isNone());
+        assertEquals(MonoOption.Some(4), some.flatMap(s -> Option.Some(s.length())));
+        assertTrue(MonoOption.<String> None().map(String::length).isNone());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * The class <code>MultiReleaseJarIT</code> runs against the packaged jar on Java 17 and checks that it loads the
+ * sealed <code>{@link Option}</code> from the versioned part of the jar, and that the permitted subclasses
+ * outside Option still load and work with it. Reflection keeps it compiling for Java 8.
+ */
+public class MultiReleaseJarIT {
+
+    @Test
+    public void testLoadedFromJar() {
+        String location = Option.class.getProtectionDomain().getCodeSource().getLocation().getPath();
+        assertTrue(location, location.endsWith(".jar"));
+    }
+
+    @Test
+    public void testOptionIsSealed() throws Exception {
+        assertEquals(Boolean.TRUE, Class.class.getMethod("isSealed").invoke(Option.class));
+        Set<Class<?>> permitted = new HashSet<Class<?>>();
+        for (Object c : (Object[]) Class.class.getMethod("getPermittedSubclasses").invoke(Option.class)) {
+            permitted.add((Class<?>) c);
+        }
+        Set<Class<?>> expected = new HashSet<Class<?>>();
+        expected.add(Option.Some.class);
+        expected.add(Option.None.class);
+        expected.add(Option.HashedSome.class);
+        expected.add(MonoOption.class);
+        assertEquals(expected, permitted);
+    }
+
+    @Test
+    public void testPermittedSubclassesLoad() {
+        Option<Integer> hashed = Option.HashedSome(3);
+        assertTrue(hashed.isSome());
+        assertEquals(Integer.valueOf(3), hashed.get());
+        assertEquals(Option.Some(3), hashed);
+
+        Option<Integer> mono = MonoOption.Option(4);
+        assertTrue(mono.isSome());
+        assertEquals(Integer.valueOf(4), mono.get());
+        assertFalse(MonoOption.Option(null).isSome());
+        assertTrue(Option.None().isNone());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OffHeapArenaTest</code> contains tests for the off-heap option columns allocated by
+ * <code>{@link OffHeapArena}</code>.
+ */
+public class OffHeapArenaTest {
+
+    @Test
+    public void testLongArray() {
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            OffHeapOptionLongArray array = arena.allocateLongArray(130);
+            assertEquals(0, array.count());
+            array.set(3, -5L);
+            array.set(129, OptionLong.Some(Long.MAX_VALUE));
+            assertEquals(-5L, array.get(3));
+            assertEquals(Long.MAX_VALUE, array.or(129, 0L));
+            assertEquals(1L, array.or(4, 1L));
+            assertEquals(OptionLong.None(), array.option(4));
+            assertEquals(129, array.nextSome(4));
+            assertEquals(2, array.count());
+            array.clear(3);
+            assertTrue(array.isNone(3));
+        } finally {
+            arena.close();
+        }
+    }
+
+    @Test
+    public void testDoubleArray() {
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            OffHeapOptionDoubleArray array = arena.allocateDoubleArray(10);
+            array.set(0, 1.5d);
+            assertEquals(1.5d, array.get(0), 0.0d);
+            assertEquals(OptionDouble.Some(1.5d), array.option(0));
+            assertEquals(-1.0d, array.or(1, -1.0d), 0.0d);
+            try {
+                array.get(1);
+                fail("Can't call get on a None slot");
+            } catch (UnsupportedOperationException e) {
+                // good.
+            }
+        } finally {
+            arena.close();
+        }
+    }
+
+    @Test
+    public void testCopyBetweenHeapAndOffHeap() {
+        OptionLongArray heap = new OptionLongArray(200);
+        for (int i = 0; i < heap.length(); i += 3) {
+            heap.set(i, i * 7L);
+        }
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            OffHeapOptionLongArray offHeap = arena.copyOf(heap);
+            for (int i = 0; i < heap.length(); i++) {
+                assertEquals(heap.option(i), offHeap.option(i));
+            }
+            assertEquals(heap, offHeap.toHeap());
+
+            OptionDoubleArray doubles = new OptionDoubleArray(70);
+            doubles.set(69, Math.PI);
+            assertEquals(doubles, arena.copyOf(doubles).toHeap());
+        } finally {
+            arena.close();
+        }
+    }
+
+    @Test
+    public void testClosedArena() {
+        OffHeapArena arena = new OffHeapArena();
+        OffHeapOptionLongArray array = arena.allocateLongArray(1);
+        arena.close();
+        assertTrue(arena.isClosed());
+        try {
+            array.isSome(0);
+            fail("Can't use a column after its arena is closed");
+        } catch (IllegalStateException e) {
+            // good.
+        }
+        try {
+            arena.allocateLongArray(1);
+            fail("Can't allocate from a closed arena");
+        } catch (IllegalStateException e) {
+            // good.
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionAggregatesTest</code> contains tests for the class <code>{@link OptionAggregates}</code>.
+ */
+public class OptionAggregatesTest {
+
+    @Test
+    public void testEmptyColumns() {
+        OptionLongArray longs = new OptionLongArray(100);
+        assertEquals(0L, OptionAggregates.sum(longs));
+        assertEquals(OptionLong.None(), OptionAggregates.min(longs));
+        assertEquals(OptionLong.None(), OptionAggregates.max(longs));
+        assertEquals(OptionDouble.None(), OptionAggregates.average(longs));
+
+        OptionDoubleArray doubles = new OptionDoubleArray(0);
+        assertEquals(0.0d, OptionAggregates.sum(doubles), 0.0d);
+        assertEquals(OptionDouble.None(), OptionAggregates.min(doubles));
+        assertEquals(OptionDouble.None(), OptionAggregates.average(doubles));
+    }
+
+    @Test
+    public void testLongAggregatesMatchScalarLoop() {
+        Random random = new Random(42);
+        OptionLongArray array = new OptionLongArray(1000);
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        int count = 0;
+        for (int i = 0; i < array.length(); i++) {
+            // a dense run, an empty run and a sparse tail.
+            boolean present = i < 256 || (i >= 512 && random.nextInt(3) == 0);
+            if (present) {
+                long value = random.nextInt(2000) - 1000;
+                array.set(i, value);
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                count++;
+            }
+        }
+        assertEquals(count, OptionAggregates.count(array));
+        assertEquals(sum, OptionAggregates.sum(array));
+        assertEquals(OptionLong.Some(min), OptionAggregates.min(array));
+        assertEquals(OptionLong.Some(max), OptionAggregates.max(array));
+        assertEquals((double) sum / count, OptionAggregates.average(array).getAsDouble(), 1e-9);
+    }
+
+    @Test
+    public void testDoubleAggregatesMatchScalarLoop() {
+        Random random = new Random(7);
+        OptionDoubleArray array = new OptionDoubleArray(1000);
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        for (int i = 0; i < array.length(); i++) {
+            boolean present = i < 128 || random.nextBoolean();
+            if (present) {
+                double value = random.nextGaussian();
+                array.set(i, value);
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                count++;
+            }
+        }
+        assertEquals(count, OptionAggregates.count(array));
+        assertEquals(sum, OptionAggregates.sum(array), 1e-9);
+        assertEquals(min, OptionAggregates.min(array).getAsDouble(), 0.0d);
+        assertEquals(max, OptionAggregates.max(array).getAsDouble(), 0.0d);
+        assertEquals(sum / count, OptionAggregates.average(array).getAsDouble(), 1e-9);
+    }
+
+    @Test
+    public void testClearedSlotsAreIgnored() {
+        OptionLongArray array = new OptionLongArray(3);
+        array.set(0, 5L);
+        array.set(1, -100L);
+        array.clear(1);
+        assertEquals(5L, OptionAggregates.sum(array));
+        assertEquals(OptionLong.Some(5L), OptionAggregates.min(array));
+    }
+}
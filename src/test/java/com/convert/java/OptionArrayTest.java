@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionArrayTest</code> contains tests for the class <code>{@link OptionArray}</code>.
+ */
+public class OptionArrayTest {
+
+    @Test
+    public void testNewArrayIsNone() {
+        OptionArray<String> array = new OptionArray<String>(3);
+        assertEquals(3, array.length());
+        assertEquals(0, array.count());
+        for (int i = 0; i < array.length(); i++) {
+            assertTrue(array.isNone(i));
+            assertNull(array.orNull(i));
+        }
+    }
+
+    @Test
+    public void testSetAndGet() {
+        OptionArray<String> array = new OptionArray<String>(3);
+        array.set(1, "one");
+        assertTrue(array.isSome(1));
+        assertEquals("one", array.get(1));
+        assertEquals("one", array.or(1, "default"));
+        assertEquals("default", array.or(0, "default"));
+        assertEquals(Option.Some("one"), array.option(1));
+        assertEquals(Option.None(), array.option(0));
+        assertEquals(1, array.count());
+
+        array.clear(1);
+        assertTrue(array.isNone(1));
+        assertEquals(0, array.count());
+    }
+
+    @Test
+    public void testGetOnNone() {
+        OptionArray<String> array = new OptionArray<String>(1);
+        try {
+            array.get(0);
+            fail("Can't call get on a None slot");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        new OptionArray<String>(10).isSome(10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSetNull() {
+        new OptionArray<String>(1).set(0, (String) null);
+    }
+
+    @Test
+    public void testOf() {
+        @SuppressWarnings("unchecked")
+        Option<String>[] options = new Option[] { Option.Some("a"), Option.None(), Option.Some("c") };
+        OptionArray<String> array = OptionArray.of(options);
+        for (int i = 0; i < options.length; i++) {
+            assertEquals(options[i], array.option(i));
+        }
+    }
+
+    @Test
+    public void testNextSome() {
+        OptionArray<Integer> array = new OptionArray<Integer>(200);
+        array.set(3, 3);
+        array.set(64, 64);
+        array.set(199, 199);
+        assertEquals(3, array.nextSome(0));
+        assertEquals(64, array.nextSome(4));
+        assertEquals(199, array.nextSome(65));
+        assertEquals(-1, array.nextSome(200));
+        assertFalse(array.isSome(65));
+    }
+}
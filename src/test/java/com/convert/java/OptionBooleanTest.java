@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionBooleanTest</code> contains tests for the class <code>{@link OptionBoolean}</code>.
+ */
+public class OptionBooleanTest {
+
+    @Test
+    public void testSome() {
+        OptionBoolean some = OptionBoolean.Some(false);
+        assertTrue(some.isSome());
+        assertFalse(some.getAsBoolean());
+        assertFalse(some.or(true));
+        assertSame(OptionBoolean.Some(true), OptionBoolean.Some(true));
+    }
+
+    @Test
+    public void testNone() {
+        OptionBoolean none = OptionBoolean.None();
+        assertTrue(none.isNone());
+        assertTrue(none.or(true));
+        try {
+            none.getAsBoolean();
+            fail("Can't call get on an instance of OptionBoolean.None");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testConversions() {
+        assertSame(OptionBoolean.None(), OptionBoolean.Option(null));
+        assertSame(OptionBoolean.Some(true), OptionBoolean.Option(Boolean.TRUE));
+        assertEquals(Option.Some(true), OptionBoolean.Some(true).toOption());
+        assertSame(OptionBoolean.Some(false), OptionBoolean.fromOption(Option.Some(false)));
+        assertSame(OptionBoolean.None(), OptionBoolean.fromOption(Option.<Boolean> None()));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionCacheTest</code> contains tests for the class <code>{@link OptionCache}</code>.
+ */
+public class OptionCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+        OptionCache<String, Integer> cache = new OptionCache<String, Integer>(10);
+        assertSame(Option.None(), cache.get("a"));
+        cache.put("a", 1);
+        assertEquals(Option.Some(1), cache.get("a"));
+        cache.put("a", 2);
+        assertEquals(Option.Some(2), cache.get("a"));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    public void testHitDoesNotAllocate() {
+        OptionCache<String, String> cache = new OptionCache<String, String>(10);
+        cache.put("a", "value");
+        assertSame(cache.get("a"), cache.get("a"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        OptionCache<String, Integer> cache = new OptionCache<String, Integer>(10);
+        cache.put("a", 1);
+        cache.get("a");
+        cache.invalidate("a");
+        cache.cleanUp();
+        assertSame(Option.None(), cache.get("a"));
+        assertEquals(0, cache.size());
+        cache.invalidate("b");
+    }
+
+    @Test
+    public void testLoader() {
+        final AtomicInteger loads = new AtomicInteger();
+        OptionCache<Integer, String> cache = new OptionCache<Integer, String>(10);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Option.Some("v2"), cache.get(2, k -> {
+                loads.incrementAndGet();
+                return Option.Some("v" + k);
+            }));
+            assertSame(Option.None(), cache.get(3, k -> {
+                loads.incrementAndGet();
+                return Option.<String> None();
+            }));
+        }
+        assertEquals(4, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        for (int maximumSize : new int[] { 1, 2, 10, 1000 }) {
+            OptionCache<Integer, Integer> cache = new OptionCache<Integer, Integer>(maximumSize);
+            for (int i = 0; i < 10 * maximumSize; i++) {
+                cache.put(i, i);
+                cache.get(i / 2);
+            }
+            assertTrue(cache.size() <= maximumSize);
+        }
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScan() {
+        OptionCache<Integer, Integer> cache = new OptionCache<Integer, Integer>(100);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get(i, k -> Option.Some(k));
+            }
+        }
+        cache.cleanUp();
+        for (int i = 1000; i < 11000; i++) {
+            cache.get(i, k -> Option.Some(k));
+            cache.get(i % 50, k -> Option.Some(k));
+        }
+        cache.cleanUp();
+        int survivors = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get(i).isSome()) {
+                survivors++;
+            }
+        }
+        assertEquals(50, survivors);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        final OptionCache<Integer, Integer> cache = new OptionCache<Integer, Integer>(100);
+        final AtomicInteger wrong = new AtomicInteger();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            final int seed = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    int key = (i * 31 + seed) % 500;
+                    Option<Integer> value = cache.get(key, k -> Option.Some(k * 2));
+                    if (value.get() != key * 2) {
+                        wrong.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        cache.cleanUp();
+        assertEquals(0, wrong.get());
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new OptionCache<String, String>(0);
+    }
+
+    @Test
+    public void testSketch() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        assertEquals(0, sketch.frequency("a"));
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("a");
+        }
+        assertTrue(sketch.frequency("a") >= 5);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("b");
+        }
+        assertEquals(FrequencySketch.MAXIMUM, sketch.frequency("b"));
+        for (int i = 0; i < 200; i++) {
+            sketch.increment(i);
+        }
+        assertTrue("counts age", sketch.frequency("b") < FrequencySketch.MAXIMUM);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The class <code>OptionColumnFileTest</code> contains tests for the class <code>{@link OptionColumnFile}</code>.
+ */
+public class OptionColumnFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testLongRoundTrip() throws IOException {
+        OptionLongArray array = new OptionLongArray(1000);
+        for (int i = 0; i < array.length(); i += 7) {
+            array.set(i, i - 500L);
+        }
+        Path file = folder.newFile("longs.col").toPath();
+        OptionColumnFile.write(file, array);
+        assertEquals(64 + 16 * 8 + 1000 * 8, Files.size(file));
+
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            OffHeapOptionLongArray mapped = OptionColumnFile.mapLongArray(arena, file);
+            assertEquals(array.length(), mapped.length());
+            for (int i = 0; i < array.length(); i++) {
+                assertEquals(array.option(i), mapped.option(i));
+            }
+            assertEquals(array, mapped.toHeap());
+        } finally {
+            arena.close();
+        }
+    }
+
+    @Test
+    public void testDoubleRoundTrip() throws IOException {
+        OptionDoubleArray array = new OptionDoubleArray(65);
+        array.set(64, -0.5d);
+        Path file = folder.newFile("doubles.col").toPath();
+        OptionColumnFile.write(file, array);
+
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            OffHeapOptionDoubleArray mapped = OptionColumnFile.mapDoubleArray(arena, file);
+            assertEquals(-0.5d, mapped.get(64), 0.0d);
+            assertEquals(1, mapped.count());
+        } finally {
+            arena.close();
+        }
+    }
+
+    @Test
+    public void testMappedColumnsAreReadOnly() throws IOException {
+        Path longs = folder.newFile("longs.col").toPath();
+        OptionColumnFile.write(longs, new OptionLongArray(3));
+        Path doubles = folder.newFile("doubles.col").toPath();
+        OptionColumnFile.write(doubles, new OptionDoubleArray(3));
+
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            assertFalse(arena.allocateLongArray(3).isReadOnly());
+            final OffHeapOptionLongArray mappedLongs = OptionColumnFile.mapLongArray(arena, longs);
+            final OffHeapOptionDoubleArray mappedDoubles = OptionColumnFile.mapDoubleArray(arena, doubles);
+            assertTrue(mappedLongs.isReadOnly());
+            assertTrue(mappedDoubles.isReadOnly());
+            assertReadOnly(() -> mappedLongs.set(0, 1L));
+            assertReadOnly(() -> mappedLongs.set(0, OptionLong.None()));
+            assertReadOnly(() -> mappedLongs.clear(0));
+            assertReadOnly(() -> mappedLongs.copyFrom(new OptionLongArray(3)));
+            assertReadOnly(() -> mappedDoubles.set(0, 1.0d));
+            assertReadOnly(() -> mappedDoubles.clear(0));
+            assertReadOnly(() -> mappedDoubles.copyFrom(new OptionDoubleArray(3)));
+            assertEquals(0, mappedLongs.count());
+        } finally {
+            arena.close();
+        }
+    }
+
+    private static void assertReadOnly(Runnable mutation) {
+        try {
+            mutation.run();
+            fail("Mapped columns are read-only");
+        } catch (UnsupportedOperationException e) {
+            assertEquals("Column is read-only", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testWrongType() throws IOException {
+        Path file = folder.newFile("longs.col").toPath();
+        OptionColumnFile.write(file, new OptionLongArray(3));
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            OptionColumnFile.mapDoubleArray(arena, file);
+            fail("A column of longs can't be mapped as doubles");
+        } catch (IOException e) {
+            // good.
+        } finally {
+            arena.close();
+        }
+    }
+
+    @Test
+    public void testNotAColumnFile() throws IOException {
+        Path file = folder.newFile("garbage.col").toPath();
+        Files.write(file, ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN).putLong(42L).array());
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            OptionColumnFile.mapLongArray(arena, file);
+            fail("Not an option column file");
+        } catch (IOException e) {
+            // good.
+        } finally {
+            arena.close();
+        }
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        Path file = folder.newFile("longs.col").toPath();
+        OptionLongArray array = new OptionLongArray(100);
+        OptionColumnFile.write(file, array);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 8));
+        OffHeapArena arena = new OffHeapArena();
+        try {
+            OptionColumnFile.mapLongArray(arena, file);
+            fail("Truncated option column file");
+        } catch (IOException e) {
+            // good.
+        } finally {
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionDoubleArrayTest</code> contains tests for the class <code>{@link OptionDoubleArray}</code>.
+ */
+public class OptionDoubleArrayTest {
+
+    @Test
+    public void testSetAndGet() {
+        OptionDoubleArray array = new OptionDoubleArray(130);
+        array.set(0, 7.0d);
+        array.set(129, OptionDouble.Some(9.0d));
+        assertEquals(7.0d, array.get(0), 0.0d);
+        assertEquals(9.0d, array.or(129, -1.0d), 0.0d);
+        assertEquals(-1.0d, array.or(64, -1.0d), 0.0d);
+        assertEquals(OptionDouble.Some(7.0d), array.option(0));
+        assertEquals(OptionDouble.None(), array.option(1));
+        assertEquals(2, array.count());
+
+        array.set(0, OptionDouble.None());
+        assertTrue(array.isNone(0));
+        assertEquals(129, array.nextSome(0));
+    }
+
+    @Test
+    public void testGetOnNone() {
+        try {
+            new OptionDoubleArray(1).get(0);
+            fail("Can't call get on a None slot");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testEquals() {
+        OptionDoubleArray a = new OptionDoubleArray(2);
+        OptionDoubleArray b = new OptionDoubleArray(2);
+        a.set(1, 5.0d);
+        b.set(1, 5.0d);
+        b.set(0, 3.0d);
+        b.clear(0);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+}
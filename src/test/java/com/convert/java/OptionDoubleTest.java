@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionDoubleTest</code> contains tests for the class <code>{@link OptionDouble}</code>.
+ */
+public class OptionDoubleTest {
+
+    @Test
+    public void testSome() {
+        OptionDouble some = OptionDouble.Some(10.0d);
+        assertTrue(some.isSome());
+        assertFalse(some.isNone());
+        assertEquals(10.0d, some.getAsDouble(), 0.0d);
+        assertEquals(10.0d, some.or(5.0d), 0.0d);
+    }
+
+    @Test
+    public void testNone() {
+        OptionDouble none = OptionDouble.None();
+        assertTrue(none.isNone());
+        assertEquals(5.0d, none.or(5.0d), 0.0d);
+        try {
+            none.getAsDouble();
+            fail("Can't call get on an instance of OptionDouble.None");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testOrOption() {
+        OptionDouble some = OptionDouble.Some(1.0d);
+        assertSame(some, some.or(OptionDouble.Some(2.0d)));
+        assertEquals(OptionDouble.Some(2.0d), OptionDouble.None().or(OptionDouble.Some(2.0d)));
+    }
+
+    @Test
+    public void testOption() {
+        assertTrue(OptionDouble.Option(null).isNone());
+        assertEquals(OptionDouble.Some(3.0d), OptionDouble.Option(3.0d));
+    }
+
+    @Test
+    public void testConversions() {
+        assertEquals(Option.Some(7.0d), OptionDouble.Some(7.0d).toOption());
+        assertTrue(OptionDouble.None().toOption().isNone());
+        assertEquals(OptionDouble.Some(7.0d), OptionDouble.fromOption(Option.Some(7.0d)));
+        assertSame(OptionDouble.None(), OptionDouble.fromOption(Option.<Double> None()));
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(OptionDouble.Some(42.0d), OptionDouble.Some(42.0d));
+        assertEquals(OptionDouble.Some(42.0d).hashCode(), OptionDouble.Some(42.0d).hashCode());
+        assertFalse(OptionDouble.Some(0.0d).equals(OptionDouble.None()));
+        assertFalse(OptionDouble.None().equals(OptionDouble.Some(0.0d)));
+        assertEquals(OptionDouble.Some(Double.NaN), OptionDouble.Some(Double.NaN));
+    }
+}
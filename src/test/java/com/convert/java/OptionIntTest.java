@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionIntTest</code> contains tests for the class <code>{@link OptionInt}</code>.
+ */
+public class OptionIntTest {
+
+    @Test
+    public void testSome() {
+        OptionInt some = OptionInt.Some(10);
+        assertTrue(some.isSome());
+        assertFalse(some.isNone());
+        assertEquals(10, some.getAsInt());
+        assertEquals(10, some.or(5));
+    }
+
+    @Test
+    public void testNone() {
+        OptionInt none = OptionInt.None();
+        assertTrue(none.isNone());
+        assertEquals(5, none.or(5));
+        try {
+            none.getAsInt();
+            fail("Can't call get on an instance of OptionInt.None");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testOrOption() {
+        OptionInt some = OptionInt.Some(1);
+        assertSame(some, some.or(OptionInt.Some(2)));
+        assertEquals(OptionInt.Some(2), OptionInt.None().or(OptionInt.Some(2)));
+    }
+
+    @Test
+    public void testOption() {
+        assertTrue(OptionInt.Option(null).isNone());
+        assertEquals(OptionInt.Some(3), OptionInt.Option(3));
+    }
+
+    @Test
+    public void testConversions() {
+        assertEquals(Option.Some(7), OptionInt.Some(7).toOption());
+        assertTrue(OptionInt.None().toOption().isNone());
+        assertEquals(OptionInt.Some(7), OptionInt.fromOption(Option.Some(7)));
+        assertSame(OptionInt.None(), OptionInt.fromOption(Option.<Integer> None()));
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(OptionInt.Some(42), OptionInt.Some(42));
+        assertEquals(OptionInt.Some(42).hashCode(), OptionInt.Some(42).hashCode());
+        assertFalse(OptionInt.Some(0).equals(OptionInt.None()));
+        assertFalse(OptionInt.None().equals(OptionInt.Some(0)));
+    }
+}
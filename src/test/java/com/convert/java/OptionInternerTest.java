@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionInternerTest</code> contains tests for the class <code>{@link OptionInterner}</code>.
+ */
+public class OptionInternerTest {
+
+    @Test
+    public void testInternReturnsCanonicalInstance() {
+        OptionInterner<String> interner = new OptionInterner<String>();
+        Option<String> first = interner.intern(Option.Some(new String("USD")));
+        Option<String> second = interner.intern(Option.Some(new String("USD")));
+        assertSame(first, second);
+        assertSame(first.get(), second.get());
+        assertSame(first, interner.Some(new String("USD")));
+        assertNotSame(first, interner.Some("EUR"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void testNoneIsNotInterned() {
+        OptionInterner<String> interner = new OptionInterner<String>(1);
+        assertSame(Option.None(), interner.intern(Option.<String> None()));
+        assertEquals(0, interner.size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSomeNull() {
+        new OptionInterner<String>().Some(null);
+    }
+
+    @Test
+    public void testUnreferencedEntriesAreCollected() throws InterruptedException {
+        OptionInterner<String> interner = new OptionInterner<String>(2);
+        WeakReference<Option<String>> ref = new WeakReference<Option<String>>(interner.Some(new String("GBP")));
+        // A stripe drops its entry only after the reference handler has queued the cleared key, which happens
+        // some time after the collection, so wait for size() to say so rather than for ref alone.
+        for (int i = 0; i < 200 && (null != ref.get() || 0 != interner.size()); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(null == ref.get());
+        assertEquals(0, interner.size());
+    }
+}
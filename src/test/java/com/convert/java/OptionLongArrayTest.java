@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionLongArrayTest</code> contains tests for the class <code>{@link OptionLongArray}</code>.
+ */
+public class OptionLongArrayTest {
+
+    @Test
+    public void testSetAndGet() {
+        OptionLongArray array = new OptionLongArray(130);
+        array.set(0, 7L);
+        array.set(129, OptionLong.Some(9L));
+        assertEquals(7L, array.get(0));
+        assertEquals(9L, array.or(129, -1L));
+        assertEquals(-1L, array.or(64, -1L));
+        assertEquals(OptionLong.Some(7L), array.option(0));
+        assertEquals(OptionLong.None(), array.option(1));
+        assertEquals(2, array.count());
+
+        array.set(0, OptionLong.None());
+        assertTrue(array.isNone(0));
+        assertEquals(129, array.nextSome(0));
+    }
+
+    @Test
+    public void testGetOnNone() {
+        try {
+            new OptionLongArray(1).get(0);
+            fail("Can't call get on a None slot");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testEquals() {
+        OptionLongArray a = new OptionLongArray(2);
+        OptionLongArray b = new OptionLongArray(2);
+        a.set(1, 5L);
+        b.set(1, 5L);
+        b.set(0, 3L);
+        b.clear(0);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+}
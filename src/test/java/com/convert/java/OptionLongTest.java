@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionLongTest</code> contains tests for the class <code>{@link OptionLong}</code>.
+ */
+public class OptionLongTest {
+
+    @Test
+    public void testSome() {
+        OptionLong some = OptionLong.Some(10L);
+        assertTrue(some.isSome());
+        assertFalse(some.isNone());
+        assertEquals(10L, some.getAsLong());
+        assertEquals(10L, some.or(5L));
+    }
+
+    @Test
+    public void testNone() {
+        OptionLong none = OptionLong.None();
+        assertTrue(none.isNone());
+        assertEquals(5L, none.or(5L));
+        try {
+            none.getAsLong();
+            fail("Can't call get on an instance of OptionLong.None");
+        } catch (UnsupportedOperationException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testOrOption() {
+        OptionLong some = OptionLong.Some(1L);
+        assertSame(some, some.or(OptionLong.Some(2L)));
+        assertEquals(OptionLong.Some(2L), OptionLong.None().or(OptionLong.Some(2L)));
+    }
+
+    @Test
+    public void testOption() {
+        assertTrue(OptionLong.Option(null).isNone());
+        assertEquals(OptionLong.Some(3L), OptionLong.Option(3L));
+    }
+
+    @Test
+    public void testConversions() {
+        assertEquals(Option.Some(7L), OptionLong.Some(7L).toOption());
+        assertTrue(OptionLong.None().toOption().isNone());
+        assertEquals(OptionLong.Some(7L), OptionLong.fromOption(Option.Some(7L)));
+        assertSame(OptionLong.None(), OptionLong.fromOption(Option.<Long> None()));
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(OptionLong.Some(42L), OptionLong.Some(42L));
+        assertEquals(OptionLong.Some(42L).hashCode(), OptionLong.Some(42L).hashCode());
+        assertFalse(OptionLong.Some(0L).equals(OptionLong.None()));
+        assertFalse(OptionLong.None().equals(OptionLong.Some(0L)));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionMemoizerTest</code> contains tests for the class <code>{@link OptionMemoizer}</code>.
+ */
+public class OptionMemoizerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * Even keys are found, odd keys are not.
+     */
+    private final Function<Integer, Option<String>> loader = k -> {
+        loads.incrementAndGet();
+        return k % 2 == 0 ? Option.Some("v" + k) : Option.<String> None();
+    };
+
+    private OptionMemoizer<Integer, String> memoizer(int maximumSize, long someTtl, long noneTtl) {
+        return new OptionMemoizer<Integer, String>(loader, maximumSize, someTtl, noneTtl, TimeUnit.NANOSECONDS,
+                now::get);
+    }
+
+    @Test
+    public void testCachesSomeAndNone() {
+        OptionMemoizer<Integer, String> memoizer = memoizer(10, 100, 100);
+        assertEquals(Option.Some("v2"), memoizer.apply(2));
+        assertEquals(Option.Some("v2"), memoizer.apply(2));
+        assertSame(Option.None(), memoizer.apply(3));
+        assertSame(Option.None(), memoizer.apply(3));
+        assertSame(Option.None(), memoizer.apply(3));
+        assertEquals(2, loads.get());
+        assertEquals(1, memoizer.hitCount());
+        assertEquals(2, memoizer.negativeHitCount());
+        assertEquals(2, memoizer.missCount());
+        assertEquals(2, memoizer.size());
+    }
+
+    @Test
+    public void testSeparateTtls() {
+        OptionMemoizer<Integer, String> memoizer = memoizer(10, 100, 10);
+        memoizer.apply(2);
+        memoizer.apply(3);
+        now.set(10);
+        memoizer.apply(2);
+        memoizer.apply(3);
+        assertEquals(3, loads.get());
+        now.set(100);
+        memoizer.apply(2);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testZeroTtlDisablesCaching() {
+        OptionMemoizer<Integer, String> memoizer = memoizer(10, 100, 0);
+        memoizer.apply(3);
+        memoizer.apply(3);
+        assertEquals(2, loads.get());
+        assertEquals(0, memoizer.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        OptionMemoizer<Integer, String> memoizer = memoizer(2, 100, 100);
+        memoizer.apply(1);
+        memoizer.apply(2);
+        memoizer.apply(1);
+        memoizer.apply(4);
+        assertEquals(2, memoizer.size());
+        assertEquals(3, loads.get());
+        memoizer.apply(1);
+        assertEquals(3, loads.get());
+        memoizer.apply(2);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testInvalidate() {
+        OptionMemoizer<Integer, String> memoizer = memoizer(10, 100, 100);
+        memoizer.apply(1);
+        memoizer.apply(2);
+        memoizer.invalidate(1);
+        memoizer.apply(1);
+        assertEquals(3, loads.get());
+        memoizer.invalidateAll();
+        assertEquals(0, memoizer.size());
+    }
+
+    @Test
+    public void testNeverExpires() {
+        OptionMemoizer<Integer, String> memoizer = new OptionMemoizer<Integer, String>(loader, 10, Long.MAX_VALUE,
+                Long.MAX_VALUE, TimeUnit.DAYS);
+        memoizer.apply(1);
+        memoizer.apply(1);
+        assertEquals(1, loads.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLoaderReturnsNull() {
+        new OptionMemoizer<Integer, String>(k -> null, 10, 1, 1, TimeUnit.SECONDS).apply(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        memoizer(0, 1, 1);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionPipelineTest</code> contains tests for the class <code>{@link OptionPipeline}</code>.
+ */
+public class OptionPipelineTest {
+
+    private static final OptionPipeline<String, Integer> PARSE = OptionPipeline.<String> identity()
+            .map(String::trim).filter(s -> !s.isEmpty()).map(Integer::valueOf);
+
+    @Test
+    public void testIdentity() {
+        OptionPipeline<String, String> identity = OptionPipeline.identity();
+        assertEquals(Option.Some("x"), identity.apply(Option.Some("x")));
+        assertTrue(identity.apply(Option.<String> None()).isNone());
+    }
+
+    @Test
+    public void testMatchesChainedCalls() {
+        String[] inputs = { " 42 ", "   ", "7" };
+        for (String input : inputs) {
+            Option<String> option = Option.Some(input);
+            Option<Integer> chained = option.map(String::trim).filter(s -> !s.isEmpty()).map(Integer::valueOf);
+            assertEquals(chained, PARSE.apply(option));
+        }
+        assertTrue(PARSE.apply(Option.<String> None()).isNone());
+    }
+
+    @Test
+    public void testTerminalOps() {
+        assertEquals(Integer.valueOf(42), PARSE.applyOr(Option.Some("42"), 8080));
+        assertEquals(Integer.valueOf(8080), PARSE.applyOr(Option.Some(" "), 8080));
+        assertEquals(Integer.valueOf(8080), PARSE.applyOr(Option.<String> None(), 8080));
+        assertNull(PARSE.applyOrNull(Option.Some("")));
+        try {
+            PARSE.applyOr(Option.<String> None(), null);
+            fail("the default must not be null");
+        } catch (NullPointerException e) {
+            // good.
+        }
+    }
+
+    @Test
+    public void testFlatMap() {
+        OptionPipeline<String, Integer> positive = PARSE.flatMap(i -> i > 0 ? Option.Some(i) : Option.<Integer> None());
+        assertEquals(Option.Some(3), positive.apply(Option.Some("3")));
+        assertTrue(positive.apply(Option.Some("-3")).isNone());
+    }
+
+    @Test
+    public void testMapToNullIsNone() {
+        OptionPipeline<String, String> nulls = OptionPipeline.<String> identity().map(s -> null);
+        assertTrue(nulls.apply(Option.Some("x")).isNone());
+    }
+}
@@ -21,9 +21,16 @@ package com.convert.java;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 import org.junit.Test;
 
 /**
@@ -165,4 +172,149 @@ public class OptionTest {
             fail("we shouldn't iterate over nothing");
         }
     }
+
+    @Test
+    public void testNoneIteratorIsShared() {
+        Option<String> none = Option.None();
+        assertSame(none.iterator(), none.iterator());
+        assertSame(none.spliterator(), none.spliterator());
+    }
+
+    @Test
+    public void testForEach() {
+        final List<String> seen = new ArrayList<String>();
+        Option.Some("something").forEach(new Consumer<String>() {
+            public void accept(String t) {
+                seen.add(t);
+            }
+        });
+        Option.<String> None().forEach(new Consumer<String>() {
+            public void accept(String t) {
+                fail("we shouldn't iterate over nothing");
+            }
+        });
+        assertEquals(Collections.singletonList("something"), seen);
+    }
+
+    @Test
+    public void testSpliterator() {
+        Spliterator<String> some = Option.Some("something").spliterator();
+        assertEquals(1, some.estimateSize());
+        final List<String> seen = new ArrayList<String>();
+        Consumer<String> add = new Consumer<String>() {
+            public void accept(String t) {
+                seen.add(t);
+            }
+        };
+        assertTrue(some.tryAdvance(add));
+        assertFalse(some.tryAdvance(add));
+        assertEquals(0, some.estimateSize());
+        assertEquals(Collections.singletonList("something"), seen);
+        assertEquals(0, Option.None().spliterator().estimateSize());
+    }
+
+    @Test
+    public void testGetOrThrow() throws Exception {
+        assertEquals("something", Option.Some("something").getOrThrow(() -> new Exception("unused")));
+        final Exception expected = new Exception("none");
+        try {
+            Option.None().getOrThrow(() -> expected);
+            fail("getOrThrow on None must throw");
+        } catch (Exception e) {
+            assertSame(expected, e);
+        }
+    }
+
+    @Test
+    public void testOrElseGet() {
+        assertEquals("some", Option.Some("some").orElseGet(() -> {
+            fail("the supplier must not be called on Some");
+            return "unused";
+        }));
+        assertEquals("default", Option.<String> None().orElseGet(() -> "default"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOrElseGetNull() {
+        Option.<String> None().orElseGet(() -> null);
+    }
+
+    @Test
+    public void testOrElseOption() {
+        Option<String> some = Option.Some("some");
+        assertSame(some, some.orElseOption(() -> {
+            fail("the supplier must not be called on Some");
+            return Option.None();
+        }));
+        assertEquals(Option.Some("other"), Option.<String> None().orElseOption(() -> Option.Some("other")));
+        assertTrue(Option.<String> None().orElseOption(() -> Option.<String> None()).isNone());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOrElseOptionNull() {
+        Option.<String> None().orElseOption(() -> null);
+    }
+
+    @Test
+    public void testHashedSome() {
+        Option<String> hashed = Option.HashedSome("key");
+        Option<String> some = Option.Some("key");
+        assertTrue(hashed.isSome());
+        assertEquals("key", hashed.get());
+        assertEquals(some, hashed);
+        assertEquals(hashed, some);
+        assertEquals(some.hashCode(), hashed.hashCode());
+        assertEquals(hashed.hashCode(), hashed.hashCode());
+        assertEquals(Option.HashedSome("key"), hashed);
+        assertFalse(hashed.equals(Option.HashedSome("other")));
+        assertFalse(hashed.equals(Option.None()));
+        assertEquals("Some(key)", hashed.toString());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testHashedSomeNull() {
+        Option.HashedSome(null);
+    }
+
+    @Test
+    public void testFold() {
+        assertEquals("SOME", Option.Some("some").fold(() -> "none", String::toUpperCase));
+        assertEquals("none", Option.<String> None().fold(() -> "none", String::toUpperCase));
+    }
+
+    @Test
+    public void testPrimitiveFolds() {
+        Option<String> some = Option.Some("some");
+        Option<String> none = Option.None();
+        assertEquals(4, some.foldToInt(-1, String::length));
+        assertEquals(-1, none.foldToInt(-1, String::length));
+        assertEquals(4L, some.foldToLong(-1L, String::length));
+        assertEquals(-1L, none.foldToLong(-1L, String::length));
+        assertEquals(4.0d, some.foldToDouble(-1.0d, String::length), 0.0d);
+        assertEquals(-1.0d, none.foldToDouble(-1.0d, String::length), 0.0d);
+        assertTrue(some.foldToBoolean(false, s -> s.startsWith("s")));
+        assertTrue(none.foldToBoolean(true, s -> s.startsWith("s")));
+    }
+
+    @Test
+    public void testMap() {
+        assertEquals(Option.Some(4), Option.Some("some").map(String::length));
+        assertTrue(Option.<String> None().map(String::length).isNone());
+        assertTrue(Option.Some("some").map(s -> null).isNone());
+    }
+
+    @Test
+    public void testFilter() {
+        Option<String> some = Option.Some("some");
+        assertSame(some, some.filter(s -> s.startsWith("s")));
+        assertTrue(some.filter(s -> s.isEmpty()).isNone());
+        assertTrue(Option.<String> None().filter(s -> true).isNone());
+    }
+
+    @Test
+    public void testFlatMap() {
+        assertEquals(Option.Some(4), Option.Some("some").flatMap(s -> Option.Some(s.length())));
+        assertTrue(Option.Some("some").flatMap(s -> Option.<Integer> None()).isNone());
+        assertTrue(Option.<String> None().flatMap(s -> Option.Some(s.length())).isNone());
+    }
 }
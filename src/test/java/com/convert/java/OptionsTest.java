@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * The class <code>OptionsTest</code> contains tests for the class <code>{@link Options}</code>.
+ */
+public class OptionsTest {
+
+    private static final BinaryOperator<Long> SUM = (a, b) -> a + b;
+
+    @Test
+    public void testReduce() {
+        List<Option<Long>> options = Arrays.asList(Option.Some(1L), Option.<Long> None(), Option.Some(2L));
+        assertEquals(Option.Some(3L), Options.reduce(options, SUM));
+    }
+
+    @Test
+    public void testReduceAllNone() {
+        List<Option<Long>> options = Arrays.asList(Option.<Long> None(), Option.<Long> None());
+        assertTrue(Options.reduce(options, SUM).isNone());
+        assertTrue(Options.reduce(Collections.<Option<Long>> emptyList(), SUM).isNone());
+    }
+
+    @Test
+    public void testParallelReduceMatchesSequential() {
+        List<Option<Long>> options = new ArrayList<Option<Long>>();
+        for (long i = 0; i < 100000; i++) {
+            options.add(i % 5 == 0 ? Option.<Long> None() : Option.Some(i));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(Options.reduce(options, SUM), Options.parallelReduce(options, SUM, pool, 100));
+            assertEquals(Options.reduce(options, SUM), Options.parallelReduce(options, SUM));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelReduceKeepsOrder() {
+        List<Option<String>> options = new ArrayList<Option<String>>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            options.add(i % 3 == 0 ? Option.<String> None() : Option.Some(Integer.toString(i)));
+            if (i % 3 != 0) {
+                expected.append(i);
+            }
+        }
+        BinaryOperator<String> concat = (a, b) -> a + b;
+        assertEquals(Option.Some(expected.toString()),
+                Options.parallelReduce(options, concat, ForkJoinPool.commonPool(), 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        Options.parallelReduce(Collections.<Option<Long>> emptyList(), SUM, ForkJoinPool.commonPool(), 0);
+    }
+
+    @Test
+    public void testSequence() {
+        assertEquals(Option.Some(Arrays.asList(1, 2, 3)),
+                Options.sequence(Arrays.asList(Option.Some(1), Option.Some(2), Option.Some(3))));
+        assertTrue(Options.sequence(Arrays.asList(Option.Some(1), Option.<Integer> None())).isNone());
+        assertEquals(Option.Some(Collections.emptyList()),
+                Options.sequence(Collections.<Option<Integer>> emptyList()));
+    }
+
+    @Test
+    public void testTraverseStopsAtFirstNone() {
+        final AtomicInteger calls = new AtomicInteger();
+        Option<List<Integer>> result = Options.traverse(Arrays.asList("1", "x", "3"), s -> {
+            calls.incrementAndGet();
+            return s.matches("\\d+") ? Option.Some(Integer.valueOf(s)) : Option.<Integer> None();
+        });
+        assertTrue(result.isNone());
+        assertEquals(2, calls.get());
+        assertEquals(Option.Some(Arrays.asList(1, 3)),
+                Options.traverse(Arrays.asList("1", "3"), s -> Option.Some(Integer.valueOf(s))));
+    }
+
+    @Test
+    public void testParallelTraverse() {
+        List<Integer> values = new ArrayList<Integer>();
+        List<Integer> doubled = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i);
+            doubled.add(2 * i);
+        }
+        assertEquals(Option.Some(doubled), Options.parallelTraverse(values, i -> Option.Some(2 * i)));
+        assertEquals(Option.Some(doubled),
+                Options.parallelTraverse(values, i -> Option.Some(2 * i), ForkJoinPool.commonPool(), 16));
+    }
+
+    @Test
+    public void testParallelTraverseReturnsMutableList() {
+        List<Integer> result = Options.parallelTraverse(Arrays.asList(1, 2), i -> Option.Some(i)).get();
+        result.add(3);
+        result.remove(0);
+        assertEquals(Arrays.asList(2, 3), result);
+    }
+
+    @Test
+    public void testParallelTraverseCancelsOnNone() {
+        List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            values.add(i);
+        }
+        final AtomicInteger calls = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Option<List<Integer>> result = Options.parallelTraverse(values, i -> {
+                calls.incrementAndGet();
+                return i == 0 ? Option.<Integer> None() : Option.Some(i);
+            }, pool, 100);
+            assertTrue(result.isNone());
+            assertTrue("remaining work should have been skipped", calls.get() < values.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testTraverseNullResult() {
+        try {
+            Options.traverse(Arrays.asList(1), i -> null);
+            fail("f must not return null");
+        } catch (NullPointerException e) {
+            // good.
+        }
+    }
+
+    private static <T> Supplier<Option<T>> after(final long millis, final Option<T> result) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return result;
+        };
+    }
+
+    @Test
+    public void testFirstSomeKeepsPriorityOrder() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            List<Supplier<Option<Integer>>> sources = Arrays.asList(after(50, Option.<Integer> None()),
+                    after(100, Option.Some(1)), after(0, Option.Some(2)));
+            assertEquals(Option.Some(1), Options.firstSome(sources, executor));
+            assertTrue(Options.firstSome(Arrays.asList(after(0, Option.<Integer> None())), executor).isNone());
+            assertTrue(Options.firstSome(Collections.<Supplier<Option<Integer>>> emptyList(), executor).isNone());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFirstSomeCancelsTheRest() throws InterruptedException {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            Supplier<Option<Integer>> slow = () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return Option.None();
+            };
+            // Answer only once the slow source runs; a source cancelled before it starts is never interrupted.
+            Supplier<Option<Integer>> fast = () -> {
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return Option.Some(1);
+            };
+            List<Supplier<Option<Integer>>> sources = Arrays.asList(fast, slow);
+            assertEquals(Option.Some(1), Options.firstSome(sources, executor));
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFirstSomeDeadline() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            List<Supplier<Option<Integer>>> sources = Arrays.asList(after(10000, Option.Some(1)),
+                    after(0, Option.Some(2)));
+            long start = System.nanoTime();
+            assertTrue(Options.firstSome(sources, executor, 50, TimeUnit.MILLISECONDS).isNone());
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFirstSomeRethrows() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Supplier<Option<Integer>> failing = () -> {
+                throw new IllegalArgumentException("boom");
+            };
+            Options.firstSome(Arrays.asList(failing, after(0, Option.Some(2))), executor);
+            fail("the failing source comes first");
+        } catch (IllegalArgumentException e) {
+            assertEquals("boom", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
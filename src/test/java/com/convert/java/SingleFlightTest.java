@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * The class <code>SingleFlightTest</code> contains tests for the class <code>{@link SingleFlight}</code>.
+ */
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * Blocks until released. Even keys are found, odd keys are not, and negative keys fail.
+     */
+    private final Function<Integer, Option<String>> loader = k -> {
+        loads.incrementAndGet();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("negative");
+        }
+        return k % 2 == 0 ? Option.Some("v" + k) : Option.<String> None();
+    };
+
+    /**
+     * Start CALLERS concurrent calls for key, release the loader once all but the loading caller have joined the
+     * load and collect the results.
+     */
+    private List<Future<Option<String>>> herd(final SingleFlight<Integer, String> flight, final int key)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<Option<String>>> results = new ArrayList<Future<Option<String>>>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flight.apply(key)));
+        }
+        while (flight.joinedCount() < CALLERS - 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return results;
+    }
+
+    @Test
+    public void testSomeSharedByAllCallers() throws Exception {
+        SingleFlight<Integer, String> flight = new SingleFlight<Integer, String>(loader);
+        for (Future<Option<String>> result : herd(flight, 2)) {
+            assertEquals(Option.Some("v2"), result.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    public void testNoneSharedByAllCallers() throws Exception {
+        SingleFlight<Integer, String> flight = new SingleFlight<Integer, String>(loader);
+        for (Future<Option<String>> result : herd(flight, 3)) {
+            assertSame(Option.None(), result.get());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testExceptionSharedByAllCallers() throws Exception {
+        SingleFlight<Integer, String> flight = new SingleFlight<Integer, String>(loader);
+        for (Future<Option<String>> result : herd(flight, -1)) {
+            try {
+                result.get();
+                fail("the load fails");
+            } catch (ExecutionException e) {
+                assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    public void testCompletedLoadsAreNotRemembered() {
+        release.countDown();
+        SingleFlight<Integer, String> flight = new SingleFlight<Integer, String>(loader);
+        assertEquals(Option.Some("v2"), flight.apply(2));
+        assertEquals(Option.Some("v2"), flight.apply(2));
+        assertEquals(2, loads.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLoaderReturnsNull() {
+        new SingleFlight<Integer, String>(k -> null).apply(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+
+    @Test
+    public void testUndeclaredCheckedExceptionReleasesCallers() throws Exception {
+        final SingleFlight<Integer, String> flight = new SingleFlight<Integer, String>(k -> {
+            loader.apply(k);
+            throw SingleFlightTest.<RuntimeException> sneakyThrow(new IOException("sneaky"));
+        });
+        for (Future<Option<String>> result : herd(flight, 2)) {
+            try {
+                result.get(10, TimeUnit.SECONDS);
+                fail("the load fails");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof CompletionException) {
+                    cause = cause.getCause();
+                }
+                assertEquals(IOException.class, cause.getClass());
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, flight.inFlight());
+    }
+}
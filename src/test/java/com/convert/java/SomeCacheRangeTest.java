@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * The class <code>SomeCacheRangeTest</code> checks the cache range set by system properties. It runs in its own
+ * JVM with low -1000 and a high of Integer.MAX_VALUE, which must be cut down rather than fail to load.
+ */
+public class SomeCacheRangeTest {
+
+    @Test
+    public void testConfiguredRange() {
+        assertEquals("-1000", System.getProperty(SomeCache.LOW_PROPERTY));
+        int high = -1000 + SomeCache.MAXIMUM_SIZE - 1;
+        assertSame(Option.Some(-1000), Option.Some(-1000));
+        assertSame(Option.Some(high), Option.Some(high));
+        assertSame(Option.Some((long) high), Option.Some((long) high));
+        assertNotSame(Option.Some(high + 1), Option.Some(high + 1));
+        assertNotSame(Option.Some(-1001), Option.Some(-1001));
+        assertNotSame(Option.Some(Integer.MAX_VALUE), Option.Some(Integer.MAX_VALUE));
+        assertSame(Option.Some((short) -1000), Option.Some((short) -1000));
+        assertSame(Option.Some((char) 0x1000), Option.Some((char) 0x1000));
+    }
+}
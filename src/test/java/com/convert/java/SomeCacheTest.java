@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * The class <code>SomeCacheTest</code> contains tests for the canonical Some instances returned by
+ * <code>{@link Option#Some(Object)}</code>.
+ */
+public class SomeCacheTest {
+
+    @Test
+    public void testBooleans() {
+        assertSame(Option.Some(true), Option.Some(Boolean.valueOf(true)));
+        assertSame(Option.Some(false), Option.Option(false));
+        assertEquals(Boolean.TRUE, Option.Some(true).get());
+    }
+
+    @Test
+    public void testSmallNumbers() {
+        assertSame(Option.Some(0), Option.Some(0));
+        assertSame(Option.Some(-128), Option.Some(-128));
+        assertSame(Option.Some(127L), Option.Some(127L));
+        assertSame(Option.Some((short) 3), Option.Some((short) 3));
+        assertSame(Option.Some((byte) -1), Option.Some((byte) -1));
+        assertSame(Option.Some('a'), Option.Some('a'));
+        assertEquals(Integer.valueOf(42), Option.Some(42).get());
+        assertEquals(Long.valueOf(42), Option.Some(42L).get());
+    }
+
+    @Test
+    public void testOutOfRange() {
+        assertNotSame(Option.Some(128), Option.Some(128));
+        assertNotSame(Option.Some(-129L), Option.Some(-129L));
+        assertNotSame(Option.Some(Long.MAX_VALUE), Option.Some(Long.MAX_VALUE));
+        assertEquals(Option.Some(128), Option.Some(128));
+    }
+
+    @Test
+    public void testEnums() {
+        assertSame(Option.Some(TimeUnit.SECONDS), Option.Some(TimeUnit.SECONDS));
+        assertSame(TimeUnit.SECONDS, Option.Some(TimeUnit.SECONDS).get());
+        assertNotSame(Option.Some(TimeUnit.SECONDS), Option.Some(TimeUnit.DAYS));
+    }
+
+    @Test
+    public void testCachedEqualsUncached() {
+        assertEquals(new Option.Some<Integer>(5), Option.Some(5));
+        assertEquals(Option.Some(5), new Option.Some<Integer>(5));
+        assertEquals(new Option.Some<Integer>(5).hashCode(), Option.Some(5).hashCode());
+    }
+
+    @Test
+    public void testClampHigh() {
+        assertEquals(127, SomeCache.clampHigh(-128, 127));
+        assertEquals(-1, SomeCache.clampHigh(0, -1));
+        assertEquals(SomeCache.MAXIMUM_SIZE - 1, SomeCache.clampHigh(0, Integer.MAX_VALUE));
+        assertEquals(Integer.MIN_VALUE + SomeCache.MAXIMUM_SIZE - 1,
+                SomeCache.clampHigh(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE, SomeCache.clampHigh(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertEquals(SomeCache.MAXIMUM_SIZE,
+                SomeCache.size(Integer.MAX_VALUE - SomeCache.MAXIMUM_SIZE + 1, Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * The class <code>StacklessNoneTest</code> checks None.get() with {@link Option.None#STACKLESS_PROPERTY} set. It
+ * runs in its own JVM with the property true, since it is read when None loads.
+ */
+public class StacklessNoneTest {
+
+    private static UnsupportedOperationException thrown() {
+        try {
+            Option.None().get();
+        } catch (UnsupportedOperationException e) {
+            return e;
+        }
+        fail("None.get() returned");
+        return null;
+    }
+
+    @Test
+    public void testSharedInstance() {
+        assertEquals("true", System.getProperty(Option.None.STACKLESS_PROPERTY));
+        UnsupportedOperationException first = thrown();
+        assertSame(first, thrown());
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals("Can't call get on None", first.getMessage());
+    }
+
+    @Test
+    public void testStaysStackless() {
+        UnsupportedOperationException e = thrown();
+        e.setStackTrace(new Throwable().getStackTrace());
+        assertEquals(0, thrown().getStackTrace().length);
+        try {
+            e.initCause(new RuntimeException());
+            fail("initCause succeeded");
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals(null, thrown().getCause());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.convert.java;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * The class <code>VectorKernelsIT</code> runs against the packaged jar on Java 17 with jdk.incubator.vector
+ * added, and checks that <code>{@link OptionAggregates}</code> picked the Vector API kernels and that they
+ * agree with the plain ones.
+ */
+public class VectorKernelsIT {
+
+    private final AggregateKernels scalar = new ScalarKernels();
+
+    @Test
+    public void testVectorKernelsLoaded() {
+        assertEquals("VectorKernels", OptionAggregates.KERNELS.getClass().getSimpleName());
+    }
+
+    @Test
+    public void testAgreeWithScalarKernels() {
+        AggregateKernels vector = OptionAggregates.KERNELS;
+        Random random = new Random(7);
+        for (int length : new int[] { 0, 1, 7, 63, 64, 65, 130, 1000, 4099 }) {
+            for (int percent : new int[] { 0, 3, 50, 97, 100 }) {
+                OptionLongArray longs = new OptionLongArray(length);
+                OptionDoubleArray doubles = new OptionDoubleArray(length);
+                for (int i = 0; i < length; i++) {
+                    if (random.nextInt(100) < percent) {
+                        longs.set(i, random.nextLong());
+                        // Integral values, so that sums are exact in any order.
+                        doubles.set(i, random.nextInt(1 << 20) - (1 << 19));
+                    }
+                }
+                String at = length + " slots, " + percent + "%";
+                assertEquals(at, scalar.sum(longs.values_), vector.sum(longs.values_));
+                assertEquals(at, scalar.min(longs.values_, longs.present_), vector.min(longs.values_, longs.present_));
+                assertEquals(at, scalar.max(longs.values_, longs.present_), vector.max(longs.values_, longs.present_));
+                assertEquals(at, scalar.sum(doubles.values_, doubles.present_),
+                        vector.sum(doubles.values_, doubles.present_), 0.0d);
+                assertEquals(at, scalar.min(doubles.values_, doubles.present_),
+                        vector.min(doubles.values_, doubles.present_), 0.0d);
+                assertEquals(at, scalar.max(doubles.values_, doubles.present_),
+                        vector.max(doubles.values_, doubles.present_), 0.0d);
+            }
+        }
+    }
+
+    @Test
+    public void testNaN() {
+        OptionDoubleArray doubles = new OptionDoubleArray(200);
+        for (int i = 0; i < 200; i++) {
+            doubles.set(i, i);
+        }
+        doubles.set(150, Double.NaN);
+        doubles.clear(3);
+        assertEquals(Double.NaN, OptionAggregates.max(doubles).getAsDouble(), 0.0d);
+        assertEquals(Double.NaN, OptionAggregates.min(doubles).getAsDouble(), 0.0d);
+        doubles.clear(150);
+        assertEquals(0.0d, OptionAggregates.min(doubles).getAsDouble(), 0.0d);
+        assertEquals(199.0d, OptionAggregates.max(doubles).getAsDouble(), 0.0d);
+    }
+}